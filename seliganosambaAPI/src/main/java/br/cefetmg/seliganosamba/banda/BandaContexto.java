@@ -0,0 +1,78 @@
+package br.cefetmg.seliganosamba.banda;
+
+import java.sql.PreparedStatement;
+import java.util.function.Supplier;
+
+import org.jdbi.v3.core.Jdbi;
+import org.jdbi.v3.core.statement.SqlStatements;
+import org.jdbi.v3.core.statement.StatementContext;
+import org.jdbi.v3.core.statement.StatementCustomizer;
+
+/**
+ * Banda (tenant) da thread atual. O BandaFilter define a banda de cada
+ * requisição; as tarefas em segundo plano usam {@link #executar}. Todo SQL dos
+ * repositórios filtra por {@code :banda}, que o JDBI preenche a partir daqui:
+ * sem banda no contexto a consulta falha em vez de ver dados de todas.
+ */
+public final class BandaContexto {
+
+    private static final ThreadLocal<Long> ATUAL = new ThreadLocal<>();
+
+    private BandaContexto() {
+    }
+
+    public static Long getAtual() {
+        Long banda = ATUAL.get();
+        if (banda == null) {
+            throw new IllegalStateException("Nenhuma banda definida para esta operação");
+        }
+        return banda;
+    }
+
+    public static boolean isDefinida() {
+        return ATUAL.get() != null;
+    }
+
+    // Define a banda até o close(), restaurando a anterior; para usar em try-with-resources
+    public static Escopo abrir(Long banda) {
+        Long anterior = ATUAL.get();
+        ATUAL.set(banda);
+        return () -> {
+            if (anterior == null) {
+                ATUAL.remove();
+            } else {
+                ATUAL.set(anterior);
+            }
+        };
+    }
+
+    public static void executar(Long banda, Runnable tarefa) {
+        try (Escopo escopo = abrir(banda)) {
+            tarefa.run();
+        }
+    }
+
+    public static <T> T executar(Long banda, Supplier<T> tarefa) {
+        try (Escopo escopo = abrir(banda)) {
+            return tarefa.get();
+        }
+    }
+
+    public interface Escopo extends AutoCloseable {
+        @Override
+        void close();
+    }
+
+    // Preenche :banda nas instruções que usam o nome; as demais (DDL, Banda) seguem sem ele
+    public static Jdbi instalar(Jdbi jdbi) {
+        jdbi.getConfig(SqlStatements.class).addCustomizer(new StatementCustomizer() {
+            @Override
+            public void beforeBinding(PreparedStatement stmt, StatementContext ctx) {
+                if (ctx.getParsedSql().getParameters().getParameterNames().contains("banda")) {
+                    ctx.getBinding().addNamed("banda", getAtual());
+                }
+            }
+        });
+        return jdbi;
+    }
+}
@@ -0,0 +1,55 @@
+package br.cefetmg.seliganosamba.banda;
+
+import java.io.IOException;
+import java.util.Optional;
+
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import br.cefetmg.seliganosamba.service.BandaService;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+
+/**
+ * Define a banda da requisição pelo cabeçalho X-Banda (ou a banda padrão) antes
+ * do RateLimitFilter, que aplica também a cota da banda.
+ */
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE + 5)
+public class BandaFilter extends OncePerRequestFilter {
+
+    public static final String HEADER = "X-Banda";
+
+    private final BandaService bandaService;
+
+    public BandaFilter(BandaService bandaService) {
+        this.bandaService = bandaService;
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return !request.getRequestURI().startsWith("/api/") || "OPTIONS".equals(request.getMethod());
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+            throws ServletException, IOException {
+        Optional<Long> banda = bandaService.resolver(request.getHeader(HEADER));
+        if (banda.isEmpty()) {
+            response.setStatus(HttpStatus.NOT_FOUND.value());
+            response.setHeader(HttpHeaders.ACCESS_CONTROL_ALLOW_ORIGIN, "*");
+            response.setContentType("application/json");
+            response.getWriter().write("{\"status\":404,\"error\":\"Banda não encontrada.\"}");
+            return;
+        }
+        try (BandaContexto.Escopo escopo = BandaContexto.abrir(banda.get())) {
+            chain.doFilter(request, response);
+        }
+    }
+}
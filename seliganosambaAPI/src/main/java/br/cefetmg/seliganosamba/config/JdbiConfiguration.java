@@ -1,33 +1,48 @@
 package br.cefetmg.seliganosamba.config;
 
+import java.lang.reflect.Method;
+import java.sql.SQLException;
+import java.time.Duration;
+import java.time.Instant;
 import java.time.temporal.ChronoUnit;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
 
 import javax.sql.DataSource;
 
 import org.jdbi.v3.core.Jdbi;
+import org.jdbi.v3.core.extension.ExtensionMethod;
 import org.jdbi.v3.core.statement.SqlLogger;
 import org.jdbi.v3.core.statement.StatementContext;
 import org.jdbi.v3.sqlobject.SqlObjectPlugin;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.jdbc.datasource.DataSourceTransactionManager;
-import org.springframework.jdbc.datasource.DriverManagerDataSource;
 
+import com.zaxxer.hikari.HikariDataSource;
+
+import br.cefetmg.seliganosamba.banda.BandaContexto;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import lombok.extern.slf4j.Slf4j;
 
 @Slf4j
 @Configuration
 public class JdbiConfiguration {
 
-    @Value( "${jdbi.showsql}" )
+    @Value( "${jdbi.showsql:false}" )
     private boolean showsql;
 
+    // Pool Hikari para que as métricas de conexões (hikaricp.*) sejam publicadas
     @Bean
-    @ConfigurationProperties("spring.datasource")
-    DataSource driverManagerDataSource() {
-        return new DriverManagerDataSource();
+    @ConfigurationProperties("spring.datasource.hikari")
+    HikariDataSource dataSource(DataSourceProperties properties) {
+        return properties.initializeDataSourceBuilder().type(HikariDataSource.class).build();
     }
 
     @Bean
@@ -38,23 +53,54 @@ public class JdbiConfiguration {
     }
 
     @Bean
-    Jdbi jdbi(DataSource dataSource) {
+    Jdbi jdbi(DataSource dataSource, MeterRegistry meterRegistry) {
         Jdbi jdbiRet = Jdbi.create(dataSource)
                 .installPlugin(new SqlObjectPlugin());
 
-        if (showsql) {
-            SqlLogger sqlLogger = new SqlLogger() {
-                @Override
-                public void logAfterExecution(StatementContext context) {
+        SqlLogger sqlLogger = new SqlLogger() {
+            // Um Timer por (repositório, método, resultado), sem passar pelo registro a cada statement
+            private final Map<Chave, Timer> timers = new ConcurrentHashMap<>();
+
+            @Override
+            public void logAfterExecution(StatementContext context) {
+                record(context, "success", context.getElapsedTime(ChronoUnit.NANOS));
+                if (showsql) {
                     log.info("JDBI.SQL: \n {} \n PARAMETERS: {} \n TIME: {} ms",
                             context.getRenderedSql(),
                             context.getBinding().toString(),
                             context.getElapsedTime(ChronoUnit.MILLIS));
                 }
-            };
-            jdbiRet.setSqlLogger(sqlLogger);
-        }
+            }
+
+            @Override
+            public void logException(StatementContext context, SQLException ex) {
+                // Na falha não há completionMoment: o tempo vai do início da execução até a exceção
+                Instant inicio = context.getExecutionMoment();
+                if (inicio != null) {
+                    Instant fim = context.getExceptionMoment() != null ? context.getExceptionMoment() : Instant.now();
+                    record(context, "error", Duration.between(inicio, fim).toNanos());
+                }
+            }
+
+            // Tempo gasto no JDBC por método de repositório (jdbi.statements)
+            private void record(StatementContext context, String outcome, long nanos) {
+                ExtensionMethod method = context.getExtensionMethod();
+                Chave chave = new Chave(method != null ? method.getType() : null,
+                        method != null ? method.getMethod() : null, outcome);
+                timers.computeIfAbsent(chave, k -> Timer.builder("jdbi.statements")
+                                .tag("repository", k.repository() != null ? k.repository().getSimpleName() : "none")
+                                .tag("method", k.method() != null ? k.method().getName() : "none")
+                                .tag("outcome", k.outcome())
+                                .register(meterRegistry))
+                        .record(nanos, TimeUnit.NANOSECONDS);
+            }
+        };
+        jdbiRet.setSqlLogger(sqlLogger);
+        BandaContexto.instalar(jdbiRet);
 
         return jdbiRet;
     }
+
+    private record Chave(Class<?> repository, Method method, String outcome) {
+    }
 }
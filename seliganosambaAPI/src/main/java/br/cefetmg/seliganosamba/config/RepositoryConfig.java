@@ -1,6 +1,13 @@
 package br.cefetmg.seliganosamba.config;
 
+import java.util.concurrent.Callable;
+
+import org.jdbi.v3.core.Handle;
 import org.jdbi.v3.core.Jdbi;
+import org.jdbi.v3.core.config.ConfigRegistry;
+import org.jdbi.v3.core.extension.ExtensionMethod;
+import org.jdbi.v3.core.extension.Extensions;
+import org.jdbi.v3.core.extension.HandleSupplier;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 
@@ -9,32 +16,77 @@ import br.cefetmg.seliganosamba.repository.EnsaioRepository;
 import br.cefetmg.seliganosamba.repository.EquipamentoRepository;
 import br.cefetmg.seliganosamba.repository.AgendamentoRepository;
 import br.cefetmg.seliganosamba.repository.ContratoRepository;
+import br.cefetmg.seliganosamba.repository.AlteracaoRepository;
+import br.cefetmg.seliganosamba.repository.ArquivoRepository;
+import br.cefetmg.seliganosamba.repository.BandaRepository;
 
 @Configuration
 public class RepositoryConfig {
 
     @Bean
     public UsuarioRepository usuarioRepository(Jdbi jdbi) {
-        return jdbi.onDemand(UsuarioRepository.class);
+        return onDemand(jdbi, UsuarioRepository.class);
     }
 
     @Bean
     public EnsaioRepository ensaioRepository(Jdbi jdbi) {
-        return jdbi.onDemand(EnsaioRepository.class);
+        return onDemand(jdbi, EnsaioRepository.class);
     }
 
     @Bean
     public EquipamentoRepository equipamentoRepository(Jdbi jdbi) {
-        return jdbi.onDemand(EquipamentoRepository.class);
+        return onDemand(jdbi, EquipamentoRepository.class);
     }
 
     @Bean
     public AgendamentoRepository agendamentoRepository(Jdbi jdbi) {
-        return jdbi.onDemand(AgendamentoRepository.class);
+        return onDemand(jdbi, AgendamentoRepository.class);
     }
 
     @Bean
     public ContratoRepository contratoRepository(Jdbi jdbi) {
-        return jdbi.onDemand(ContratoRepository.class);
+        return onDemand(jdbi, ContratoRepository.class);
+    }
+
+    @Bean
+    public ArquivoRepository arquivoRepository(Jdbi jdbi) {
+        return onDemand(jdbi, ArquivoRepository.class);
+    }
+
+    @Bean
+    public BandaRepository bandaRepository(Jdbi jdbi) {
+        return onDemand(jdbi, BandaRepository.class);
+    }
+
+    @Bean
+    public AlteracaoRepository alteracaoRepository(Jdbi jdbi) {
+        return onDemand(jdbi, AlteracaoRepository.class);
+    }
+
+    // Monta já na inicialização os handlers do SqlObject (anotações, mappers, binders), que o
+    // JDBI guarda em cache compartilhado, em vez de deixar esse custo para a primeira requisição
+    private static <T> T onDemand(Jdbi jdbi, Class<T> repositorio) {
+        jdbi.getConfig(Extensions.class).findFor(repositorio, new HandleSupplier() {
+            @Override
+            public ConfigRegistry getConfig() {
+                return jdbi.getConfig();
+            }
+
+            @Override
+            public Jdbi getJdbi() {
+                return jdbi;
+            }
+
+            @Override
+            public Handle getHandle() {
+                throw new IllegalStateException("Sem conexão durante o pré-carregamento de " + repositorio.getSimpleName());
+            }
+
+            @Override
+            public <V> V invokeInContext(ExtensionMethod extensionMethod, ConfigRegistry config, Callable<V> task) {
+                throw new IllegalStateException("Sem conexão durante o pré-carregamento de " + repositorio.getSimpleName());
+            }
+        });
+        return jdbi.onDemand(repositorio);
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,102 @@
+package br.cefetmg.seliganosamba.config;
+
+import java.io.IOException;
+import java.lang.reflect.Type;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.HttpOutputMessage;
+import org.springframework.http.converter.HttpMessageNotWritableException;
+import org.springframework.http.converter.cbor.MappingJackson2CborHttpMessageConverter;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.http.converter.json.MappingJackson2HttpMessageConverter;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.servlet.HandlerMapping;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
+@Configuration
+public class SerializacaoConfiguration {
+
+    // Substitui o conversor JSON padrão para medir o tempo de serialização separado do tempo de JDBC
+    @Bean
+    MappingJackson2HttpMessageConverter mappingJackson2HttpMessageConverter(ObjectMapper objectMapper,
+                                                                            MeterRegistry meterRegistry) {
+        SerializacaoTimers timers = new SerializacaoTimers(meterRegistry, "json");
+
+        return new MappingJackson2HttpMessageConverter(objectMapper) {
+            @Override
+            protected void writeInternal(Object object, Type type, HttpOutputMessage outputMessage)
+                    throws IOException, HttpMessageNotWritableException {
+                timers.medir(() -> super.writeInternal(object, type, outputMessage));
+            }
+        };
+    }
+
+    // Formato binário para o app (Accept: application/cbor), com as mesmas configurações do JSON.
+    // CBOR puro, sem a extensão STRINGREF: os decodificadores CBOR comuns não a entendem.
+    @Bean
+    MappingJackson2CborHttpMessageConverter mappingJackson2CborHttpMessageConverter(Jackson2ObjectMapperBuilder builder,
+                                                                                    MeterRegistry meterRegistry) {
+        ObjectMapper cborMapper = builder
+                .factory(new CBORFactory())
+                .build();
+        SerializacaoTimers timers = new SerializacaoTimers(meterRegistry, "cbor");
+
+        return new MappingJackson2CborHttpMessageConverter(cborMapper) {
+            @Override
+            protected void writeInternal(Object object, Type type, HttpOutputMessage outputMessage)
+                    throws IOException, HttpMessageNotWritableException {
+                timers.medir(() -> super.writeInternal(object, type, outputMessage));
+            }
+        };
+    }
+
+    // http.server.serialization por formato e rota; a rota é o padrão do handler (o mesmo uri de
+    // http.server.requests), então a cardinalidade fica limitada ao número de endpoints
+    private static final class SerializacaoTimers {
+
+        private final MeterRegistry meterRegistry;
+        private final String formato;
+        private final Map<String, Timer> porUri = new ConcurrentHashMap<>();
+
+        SerializacaoTimers(MeterRegistry meterRegistry, String formato) {
+            this.meterRegistry = meterRegistry;
+            this.formato = formato;
+        }
+
+        // Mesma medição para os dois formatos: só a escrita do corpo, pela rota da requisição
+        void medir(Escrita escrita) throws IOException {
+            Timer.Sample sample = Timer.start(meterRegistry);
+            try {
+                escrita.escrever();
+            } finally {
+                sample.stop(daRequisicaoAtual());
+            }
+        }
+
+        private Timer daRequisicaoAtual() {
+            RequestAttributes atributos = RequestContextHolder.getRequestAttributes();
+            Object padrao = atributos == null ? null
+                    : atributos.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE, RequestAttributes.SCOPE_REQUEST);
+            String uri = padrao != null ? padrao.toString() : "UNKNOWN";
+            return porUri.computeIfAbsent(uri, k -> Timer.builder("http.server.serialization")
+                    .description("Tempo de escrita do corpo das respostas")
+                    .tag("formato", formato)
+                    .tag("uri", k)
+                    .register(meterRegistry));
+        }
+    }
+
+    @FunctionalInterface
+    private interface Escrita {
+        void escrever() throws IOException;
+    }
+}
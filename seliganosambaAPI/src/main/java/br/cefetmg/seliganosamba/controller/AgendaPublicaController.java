@@ -0,0 +1,99 @@
+package br.cefetmg.seliganosamba.controller;
+
+import java.util.concurrent.TimeUnit;
+
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import br.cefetmg.seliganosamba.banda.BandaFilter;
+import br.cefetmg.seliganosamba.service.AgendaPublicaService;
+
+@CrossOrigin(origins = "*", allowedHeaders = "*")
+@RestController
+@RequestMapping("/api/v1/seliganosamba/agenda-publica") // http://localhost:9091/api/v1/seliganosamba/agenda-publica
+public class AgendaPublicaController {
+
+    private final AgendaPublicaService agendaPublicaService;
+
+    public AgendaPublicaController(AgendaPublicaService agendaPublicaService) {
+        this.agendaPublicaService = agendaPublicaService;
+    }
+
+    @GetMapping({"","/"})
+    public ResponseEntity<byte[]> get(@RequestHeader(value = HttpHeaders.ACCEPT_ENCODING, required = false) String acceptEncoding,
+                                      @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
+        AgendaPublicaService.Snapshot snapshot = agendaPublicaService.getSnapshot();
+        if (snapshot == null) {
+            return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE).header(HttpHeaders.RETRY_AFTER, "5").build();
+        }
+        boolean gzip = aceitaGzip(acceptEncoding);
+        String etag = gzip ? snapshot.etagGzip() : snapshot.etag();
+        CacheControl cacheControl = CacheControl.maxAge(60, TimeUnit.SECONDS).cachePublic();
+        // A resposta depende da banda: caches compartilhados precisam separar por X-Banda
+        if (corresponde(ifNoneMatch, etag)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(etag).cacheControl(cacheControl)
+                    .varyBy(HttpHeaders.ACCEPT_ENCODING, BandaFilter.HEADER).build();
+        }
+        ResponseEntity.BodyBuilder response = ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_JSON)
+                .eTag(etag)
+                .cacheControl(cacheControl)
+                .varyBy(HttpHeaders.ACCEPT_ENCODING, BandaFilter.HEADER);
+        if (gzip) {
+            return response.header(HttpHeaders.CONTENT_ENCODING, "gzip").body(snapshot.gzip());
+        }
+        return response.body(snapshot.json());
+    }
+
+    // gzip só com q > 0, explícito ou pelo curinga "*" (RFC 9110, 12.5.3)
+    static boolean aceitaGzip(String acceptEncoding) {
+        if (acceptEncoding == null) {
+            return false;
+        }
+        Double gzip = null;
+        Double curinga = null;
+        for (String item : acceptEncoding.split(",")) {
+            String[] partes = item.split(";");
+            String codificacao = partes[0].trim().toLowerCase();
+            double q = 1.0;
+            for (int i = 1; i < partes.length; i++) {
+                String parametro = partes[i].trim();
+                if (parametro.startsWith("q=") || parametro.startsWith("Q=")) {
+                    try {
+                        q = Double.parseDouble(parametro.substring(2).trim());
+                    } catch (NumberFormatException e) {
+                        q = 0;
+                    }
+                }
+            }
+            if (codificacao.equals("gzip") || codificacao.equals("x-gzip")) {
+                gzip = q;
+            } else if (codificacao.equals("*")) {
+                curinga = q;
+            }
+        }
+        double q = gzip != null ? gzip : curinga != null ? curinga : 0;
+        return q > 0;
+    }
+
+    // If-None-Match usa comparação fraca e pode trazer uma lista de ETags ou "*"
+    private static boolean corresponde(String ifNoneMatch, String etag) {
+        if (ifNoneMatch == null) {
+            return false;
+        }
+        for (String candidata : ifNoneMatch.split(",")) {
+            String valor = candidata.trim();
+            if (valor.startsWith("W/")) {
+                valor = valor.substring(2);
+            }
+            if (valor.equals("*") || valor.equals(etag)) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
@@ -3,13 +3,21 @@ package br.cefetmg.seliganosamba.controller;
 import java.time.LocalDate;
 import java.util.List;
 
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 import org.springframework.web.server.ResponseStatusException;
 
+import br.cefetmg.seliganosamba.dto.AgendamentoResumo;
 import br.cefetmg.seliganosamba.model.Agendamento;
 import br.cefetmg.seliganosamba.repository.AgendamentoRepository;
+import br.cefetmg.seliganosamba.repository.UsuarioRepository;
+import br.cefetmg.seliganosamba.service.AgendaPublicaService;
+import br.cefetmg.seliganosamba.service.ArquivamentoService;
+import br.cefetmg.seliganosamba.service.RelatorioService;
+import br.cefetmg.seliganosamba.service.SincronizacaoService;
+import br.cefetmg.seliganosamba.service.SincronizacaoService.Entidade;
 
 @CrossOrigin(origins = "*", allowedHeaders = "*")
 @RestController
@@ -17,14 +25,29 @@ import br.cefetmg.seliganosamba.repository.AgendamentoRepository;
 public class AgendamentoController {
 
     private final AgendamentoRepository agendamentoRepository;
+    private final AgendaPublicaService agendaPublicaService;
+    private final RelatorioService relatorioService;
+    private final ArquivamentoService arquivamentoService;
+    private final UsuarioRepository usuarioRepository;
+    private final SincronizacaoService sincronizacaoService;
 
-    public AgendamentoController(AgendamentoRepository agendamentoRepository) {
+    public AgendamentoController(AgendamentoRepository agendamentoRepository,
+                                 AgendaPublicaService agendaPublicaService,
+                                 RelatorioService relatorioService,
+                                 ArquivamentoService arquivamentoService,
+                                 UsuarioRepository usuarioRepository,
+                                 SincronizacaoService sincronizacaoService) {
         this.agendamentoRepository = agendamentoRepository;
+        this.agendaPublicaService = agendaPublicaService;
+        this.relatorioService = relatorioService;
+        this.arquivamentoService = arquivamentoService;
+        this.usuarioRepository = usuarioRepository;
+        this.sincronizacaoService = sincronizacaoService;
     }
 
     @GetMapping("/{id}")
     public ResponseEntity<Agendamento> getById(@PathVariable Long id) {
-        Agendamento agendamento = agendamentoRepository.findById(id);
+        Agendamento agendamento = agendamentoRepository.findByIdComArquivo(id);
         if (agendamento != null) {
             return ResponseEntity.ok().body(agendamento);
         }
@@ -37,18 +60,37 @@ public class AgendamentoController {
         return ResponseEntity.ok().body(agendamentos);
     }
 
+    @GetMapping(value = {"","/"}, params = "view=resumo")
+    public ResponseEntity<List<AgendamentoResumo>> getAllResumo() {
+        List<AgendamentoResumo> agendamentos = agendamentoRepository.findAllResumo();
+        return ResponseEntity.ok().body(agendamentos);
+    }
+
     @GetMapping("/usuario/{idUsuario}")
     public ResponseEntity<List<Agendamento>> getByUsuarioId(@PathVariable Long idUsuario) {
         List<Agendamento> agendamentos = agendamentoRepository.findByUsuarioId(idUsuario);
         return ResponseEntity.ok().body(agendamentos);
     }
 
+    @GetMapping(value = "/usuario/{idUsuario}", params = "view=resumo")
+    public ResponseEntity<List<AgendamentoResumo>> getResumoByUsuarioId(@PathVariable Long idUsuario) {
+        List<AgendamentoResumo> agendamentos = agendamentoRepository.findResumoByUsuarioId(idUsuario);
+        return ResponseEntity.ok().body(agendamentos);
+    }
+
     @GetMapping("/data/{dataEvento}")
     public ResponseEntity<List<Agendamento>> getByDataEvento(@PathVariable LocalDate dataEvento) {
         List<Agendamento> agendamentos = agendamentoRepository.findByDataEvento(dataEvento);
         return ResponseEntity.ok().body(agendamentos);
     }
 
+    @GetMapping("/periodo")
+    public ResponseEntity<List<Agendamento>> getByPeriodo(@RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate inicio,
+                                                          @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate fim) {
+        List<Agendamento> agendamentos = agendamentoRepository.findByPeriodo(inicio, fim, arquivamentoService.getLimite());
+        return ResponseEntity.ok().body(agendamentos);
+    }
+
     @GetMapping("/status/{aprovado}")
     public ResponseEntity<List<Agendamento>> getByAprovado(@PathVariable Boolean aprovado) {
         List<Agendamento> agendamentos = agendamentoRepository.findByAprovado(aprovado);
@@ -57,8 +99,11 @@ public class AgendamentoController {
 
     @PostMapping({"","/"})
     public ResponseEntity<Agendamento> create(@RequestBody Agendamento agendamento) {
-        Long id = agendamentoRepository.insert(agendamento);
+        validarUsuario(agendamento);
+        Long id = sincronizacaoService.inserir(Entidade.AGENDAMENTO, () -> agendamentoRepository.insert(agendamento));
         agendamento.setIdAgendamento(id);
+        agendaPublicaService.atualizar();
+        relatorioService.agendamentoAlterado(id);
         return ResponseEntity.ok().body(agendamento);
     }
 
@@ -67,13 +112,17 @@ public class AgendamentoController {
         if (agendamento.getIdAgendamento() == null) {
             throw new ResponseStatusException(HttpStatus.NOT_FOUND, "Agendamento não encontrado");
         }
-        int qtd = agendamentoRepository.update(agendamento);
+        validarUsuario(agendamento);
+        int qtd = sincronizacaoService.alterar(Entidade.AGENDAMENTO, agendamento.getIdAgendamento(),
+                () -> agendamentoRepository.update(agendamento));
         if (qtd == 0) {
             throw new ResponseStatusException(HttpStatus.NOT_FOUND, "Nenhum agendamento alterado");
         }
         if (qtd > 1) {
             throw new ResponseStatusException(HttpStatus.INTERNAL_SERVER_ERROR, "Foi alterado mais de 1 agendamento.");
         }
+        agendaPublicaService.atualizar();
+        relatorioService.agendamentoAlterado(agendamento.getIdAgendamento());
         return ResponseEntity.ok().body(agendamento);
     }
 
@@ -86,22 +135,35 @@ public class AgendamentoController {
         if (agendamento == null) {
             throw new ResponseStatusException(HttpStatus.NOT_FOUND, "Agendamento não encontrado");
         }
-        int qtd = agendamentoRepository.delete(id);
+        int qtd = sincronizacaoService.remover(Entidade.AGENDAMENTO, id,
+                () -> agendamentoRepository.delete(id));
         if (qtd == 0) {
             throw new ResponseStatusException(HttpStatus.NOT_FOUND, "Nenhum agendamento excluído.");
         }
         if (qtd > 1) {
             throw new ResponseStatusException(HttpStatus.INTERNAL_SERVER_ERROR, "Foi excluído mais de 1 agendamento.");
         }
+        agendaPublicaService.atualizar();
+        relatorioService.agendamentoRemovido(id);
         return ResponseEntity.ok().body(agendamento);
     }
 
     @PatchMapping("/{id}/aprovado")
     public ResponseEntity<Void> updateAprovado(@PathVariable Long id, @RequestParam Boolean aprovado) {
-        int qtd = agendamentoRepository.updateAprovado(id, aprovado);
+        int qtd = sincronizacaoService.alterar(Entidade.AGENDAMENTO, id,
+                () -> agendamentoRepository.updateAprovado(id, aprovado));
         if (qtd == 0) {
             throw new ResponseStatusException(HttpStatus.NOT_FOUND, "Agendamento não encontrado");
         }
+        agendaPublicaService.atualizar();
+        relatorioService.agendamentoAlterado(id);
         return ResponseEntity.ok().build();
     }
-}
\ No newline at end of file
+
+    // O usuário informado precisa ser da mesma banda do agendamento
+    private void validarUsuario(Agendamento agendamento) {
+        if (agendamento.getIdUsuario() != null && usuarioRepository.findById(agendamento.getIdUsuario()) == null) {
+            throw new ResponseStatusException(HttpStatus.NOT_FOUND, "Usuário não encontrado");
+        }
+    }
+}
@@ -1,6 +1,7 @@
 package br.cefetmg.seliganosamba.controller;
 
 import java.util.List;
+import java.util.function.IntSupplier;
 
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
@@ -8,7 +9,11 @@ import org.springframework.web.bind.annotation.*;
 import org.springframework.web.server.ResponseStatusException;
 
 import br.cefetmg.seliganosamba.model.Contrato;
+import br.cefetmg.seliganosamba.repository.AgendamentoRepository;
 import br.cefetmg.seliganosamba.repository.ContratoRepository;
+import br.cefetmg.seliganosamba.service.RelatorioService;
+import br.cefetmg.seliganosamba.service.SincronizacaoService;
+import br.cefetmg.seliganosamba.service.SincronizacaoService.Entidade;
 
 @CrossOrigin(origins = "*", allowedHeaders = "*")
 @RestController
@@ -16,14 +21,22 @@ import br.cefetmg.seliganosamba.repository.ContratoRepository;
 public class ContratoController {
 
     private final ContratoRepository contratoRepository;
+    private final RelatorioService relatorioService;
+    private final AgendamentoRepository agendamentoRepository;
+    private final SincronizacaoService sincronizacaoService;
 
-    public ContratoController(ContratoRepository contratoRepository) {
+    public ContratoController(ContratoRepository contratoRepository, RelatorioService relatorioService,
+                              AgendamentoRepository agendamentoRepository,
+                              SincronizacaoService sincronizacaoService) {
         this.contratoRepository = contratoRepository;
+        this.relatorioService = relatorioService;
+        this.agendamentoRepository = agendamentoRepository;
+        this.sincronizacaoService = sincronizacaoService;
     }
 
     @GetMapping("/{id}")
     public ResponseEntity<Contrato> getById(@PathVariable Long id) {
-        Contrato contrato = contratoRepository.findById(id);
+        Contrato contrato = contratoRepository.findByIdComArquivo(id);
         if (contrato != null) {
             return ResponseEntity.ok().body(contrato);
         }
@@ -38,7 +51,7 @@ public class ContratoController {
 
     @GetMapping("/agendamento/{idAgendamento}")
     public ResponseEntity<Contrato> getByAgendamentoId(@PathVariable Long idAgendamento) {
-        Contrato contrato = contratoRepository.findByAgendamentoId(idAgendamento);
+        Contrato contrato = contratoRepository.findByAgendamentoIdComArquivo(idAgendamento);
         if (contrato != null) {
             return ResponseEntity.ok().body(contrato);
         }
@@ -53,8 +66,10 @@ public class ContratoController {
 
     @PostMapping({"","/"})
     public ResponseEntity<Contrato> create(@RequestBody Contrato contrato) {
-        Long id = contratoRepository.insert(contrato);
+        validarAgendamento(contrato);
+        Long id = sincronizacaoService.inserir(Entidade.CONTRATO, () -> contratoRepository.insert(contrato));
         contrato.setIdContrato(id);
+        relatorioService.contratoAlterado(id);
         return ResponseEntity.ok().body(contrato);
     }
 
@@ -63,13 +78,16 @@ public class ContratoController {
         if (contrato.getIdContrato() == null) {
             throw new ResponseStatusException(HttpStatus.NOT_FOUND, "Contrato não encontrado");
         }
-        int qtd = contratoRepository.update(contrato);
+        validarAgendamento(contrato);
+        int qtd = sincronizacaoService.alterar(Entidade.CONTRATO, contrato.getIdContrato(),
+                () -> contratoRepository.update(contrato));
         if (qtd == 0) {
             throw new ResponseStatusException(HttpStatus.NOT_FOUND, "Nenhum contrato alterado");
         }
         if (qtd > 1) {
             throw new ResponseStatusException(HttpStatus.INTERNAL_SERVER_ERROR, "Foi alterado mais de 1 contrato.");
         }
+        relatorioService.contratoAlterado(contrato.getIdContrato());
         return ResponseEntity.ok().body(contrato);
     }
 
@@ -82,24 +100,40 @@ public class ContratoController {
         if (contrato == null) {
             throw new ResponseStatusException(HttpStatus.NOT_FOUND, "Contrato não encontrado");
         }
-        int qtd = contratoRepository.delete(id);
+        int qtd = sincronizacaoService.remover(Entidade.CONTRATO, id, () -> contratoRepository.delete(id));
         if (qtd == 0) {
             throw new ResponseStatusException(HttpStatus.NOT_FOUND, "Nenhum contrato excluído.");
         }
         if (qtd > 1) {
             throw new ResponseStatusException(HttpStatus.INTERNAL_SERVER_ERROR, "Foi excluído mais de 1 contrato.");
         }
+        relatorioService.contratoRemovido(id);
         return ResponseEntity.ok().body(contrato);
     }
 
-    @PatchMapping("/{id}/assinaturas")
-    public ResponseEntity<Void> updateAssinaturas(@PathVariable Long id,
-                                                 @RequestParam Boolean assinaturaProdutor,
-                                                 @RequestParam Boolean assinaturaContratante) {
-        int qtd = contratoRepository.updateAssinaturas(id, assinaturaProdutor, assinaturaContratante);
-        if (qtd == 0) {
+    // Idempotente: assinar de novo devolve o contrato como está
+    @PatchMapping("/{id}/assinatura/{parte}")
+    public ResponseEntity<Contrato> assinar(@PathVariable Long id, @PathVariable String parte) {
+        IntSupplier assinatura = switch (parte) {
+            case "produtor" -> () -> contratoRepository.assinarProdutor(id);
+            case "contratante" -> () -> contratoRepository.assinarContratante(id);
+            default -> throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Parte inválida: " + parte);
+        };
+        int qtd = sincronizacaoService.alterar(Entidade.CONTRATO, id, assinatura);
+        Contrato contrato = contratoRepository.findById(id);
+        if (contrato == null) {
             throw new ResponseStatusException(HttpStatus.NOT_FOUND, "Contrato não encontrado");
         }
-        return ResponseEntity.ok().build();
+        if (qtd > 0) {
+            relatorioService.contratoAlterado(id);
+        }
+        return ResponseEntity.ok().body(contrato);
+    }
+
+    // O agendamento do contrato precisa ser da mesma banda
+    private void validarAgendamento(Contrato contrato) {
+        if (contrato.getIdAgendamento() == null || agendamentoRepository.findById(contrato.getIdAgendamento()) == null) {
+            throw new ResponseStatusException(HttpStatus.NOT_FOUND, "Agendamento não encontrado");
+        }
     }
-}
\ No newline at end of file
+}
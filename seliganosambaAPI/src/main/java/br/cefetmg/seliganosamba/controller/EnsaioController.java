@@ -10,6 +10,8 @@ import org.springframework.web.server.ResponseStatusException;
 
 import br.cefetmg.seliganosamba.model.Ensaio;
 import br.cefetmg.seliganosamba.repository.EnsaioRepository;
+import br.cefetmg.seliganosamba.service.SincronizacaoService;
+import br.cefetmg.seliganosamba.service.SincronizacaoService.Entidade;
 
 @CrossOrigin(origins = "*", allowedHeaders = "*")
 @RestController
@@ -17,9 +19,11 @@ import br.cefetmg.seliganosamba.repository.EnsaioRepository;
 public class EnsaioController {
 
     private final EnsaioRepository ensaioRepository;
+    private final SincronizacaoService sincronizacaoService;
 
-    public EnsaioController(EnsaioRepository ensaioRepository) {
+    public EnsaioController(EnsaioRepository ensaioRepository, SincronizacaoService sincronizacaoService) {
         this.ensaioRepository = ensaioRepository;
+        this.sincronizacaoService = sincronizacaoService;
     }
 
     @GetMapping("/{id}")
@@ -39,7 +43,7 @@ public class EnsaioController {
 
     @PostMapping({"","/"})
     public ResponseEntity<Ensaio> create(@RequestBody Ensaio ensaio) {
-        Long id = ensaioRepository.insert(ensaio);
+        Long id = sincronizacaoService.inserir(Entidade.ENSAIO, () -> ensaioRepository.insert(ensaio));
         ensaio.setIdEnsaio(id);
         return ResponseEntity.ok().body(ensaio);
     }
@@ -49,7 +53,8 @@ public class EnsaioController {
         if (ensaio.getIdEnsaio() == null) {
             throw new ResponseStatusException(HttpStatus.NOT_FOUND, "Ensaio não encontrado");
         }
-        int qtd = ensaioRepository.update(ensaio);
+        int qtd = sincronizacaoService.alterar(Entidade.ENSAIO, ensaio.getIdEnsaio(),
+                () -> ensaioRepository.update(ensaio));
         if (qtd == 0) {
             throw new ResponseStatusException(HttpStatus.NOT_FOUND, "Nenhum ensaio alterado");
         }
@@ -68,7 +73,7 @@ public class EnsaioController {
         if (ensaio == null) {
             throw new ResponseStatusException(HttpStatus.NOT_FOUND, "Ensaio não encontrado");
         }
-        int qtd = ensaioRepository.delete(id);
+        int qtd = sincronizacaoService.remover(Entidade.ENSAIO, id, () -> ensaioRepository.delete(id));
         if (qtd == 0) {
             throw new ResponseStatusException(HttpStatus.NOT_FOUND, "Nenhum ensaio excluído.");
         }
@@ -9,6 +9,8 @@ import org.springframework.web.server.ResponseStatusException;
 
 import br.cefetmg.seliganosamba.model.Equipamento;
 import br.cefetmg.seliganosamba.repository.EquipamentoRepository;
+import br.cefetmg.seliganosamba.service.SincronizacaoService;
+import br.cefetmg.seliganosamba.service.SincronizacaoService.Entidade;
 
 @CrossOrigin(origins = "*", allowedHeaders = "*")
 @RestController
@@ -16,9 +18,11 @@ import br.cefetmg.seliganosamba.repository.EquipamentoRepository;
 public class EquipamentoController {
 
     private final EquipamentoRepository equipamentoRepository;
+    private final SincronizacaoService sincronizacaoService;
 
-    public EquipamentoController(EquipamentoRepository equipamentoRepository) {
+    public EquipamentoController(EquipamentoRepository equipamentoRepository, SincronizacaoService sincronizacaoService) {
         this.equipamentoRepository = equipamentoRepository;
+        this.sincronizacaoService = sincronizacaoService;
     }
 
     @GetMapping("/{id}")
@@ -38,7 +42,7 @@ public class EquipamentoController {
 
     @PostMapping({"","/"})
     public ResponseEntity<Equipamento> create(@RequestBody Equipamento equipamento) {
-        Long id = equipamentoRepository.insert(equipamento);
+        Long id = sincronizacaoService.inserir(Entidade.EQUIPAMENTO, () -> equipamentoRepository.insert(equipamento));
         equipamento.setIdEquipamento(id);
         return ResponseEntity.ok().body(equipamento);
     }
@@ -48,7 +52,8 @@ public class EquipamentoController {
         if (equipamento.getIdEquipamento() == null) {
             throw new ResponseStatusException(HttpStatus.NOT_FOUND, "Equipamento não encontrado");
         }
-        int qtd = equipamentoRepository.update(equipamento);
+        int qtd = sincronizacaoService.alterar(Entidade.EQUIPAMENTO, equipamento.getIdEquipamento(),
+                () -> equipamentoRepository.update(equipamento));
         if (qtd == 0) {
             throw new ResponseStatusException(HttpStatus.NOT_FOUND, "Nenhum equipamento alterado");
         }
@@ -67,7 +72,8 @@ public class EquipamentoController {
         if (equipamento == null) {
             throw new ResponseStatusException(HttpStatus.NOT_FOUND, "Equipamento não encontrado");
         }
-        int qtd = equipamentoRepository.delete(id);
+        int qtd = sincronizacaoService.remover(Entidade.EQUIPAMENTO, id,
+                () -> equipamentoRepository.delete(id));
         if (qtd == 0) {
             throw new ResponseStatusException(HttpStatus.NOT_FOUND, "Nenhum equipamento excluído.");
         }
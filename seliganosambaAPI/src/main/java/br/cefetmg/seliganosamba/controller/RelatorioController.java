@@ -0,0 +1,41 @@
+package br.cefetmg.seliganosamba.controller;
+
+import java.util.List;
+import java.util.Optional;
+
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.server.ResponseStatusException;
+
+import br.cefetmg.seliganosamba.dto.RelatorioLinha;
+import br.cefetmg.seliganosamba.service.RelatorioService;
+
+@CrossOrigin(origins = "*", allowedHeaders = "*")
+@RestController
+@RequestMapping("/api/v1/seliganosamba/relatorio") // http://localhost:9091/api/v1/seliganosamba/relatorio
+public class RelatorioController {
+
+    private final RelatorioService relatorioService;
+
+    public RelatorioController(RelatorioService relatorioService) {
+        this.relatorioService = relatorioService;
+    }
+
+    // dimensao: mes, tipo-evento ou cidade
+    @GetMapping("/{dimensao}")
+    public ResponseEntity<List<RelatorioLinha>> getByDimensao(@PathVariable String dimensao) {
+        RelatorioService.Dimensao valor;
+        try {
+            valor = RelatorioService.Dimensao.valueOf(dimensao.toUpperCase().replace('-', '_'));
+        } catch (IllegalArgumentException e) {
+            throw new ResponseStatusException(HttpStatus.NOT_FOUND, "Relatório não encontrado");
+        }
+        Optional<List<RelatorioLinha>> linhas = relatorioService.consultar(valor);
+        if (linhas.isEmpty()) {
+            return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE).header(HttpHeaders.RETRY_AFTER, "5").build();
+        }
+        return ResponseEntity.ok().body(linhas.get());
+    }
+}
@@ -0,0 +1,24 @@
+package br.cefetmg.seliganosamba.controller;
+
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import br.cefetmg.seliganosamba.service.SincronizacaoService;
+
+@CrossOrigin(origins = "*", allowedHeaders = "*")
+@RestController
+@RequestMapping("/api/v1/seliganosamba/sincronizacao") // http://localhost:9091/api/v1/seliganosamba/sincronizacao
+public class SincronizacaoController {
+
+    private final SincronizacaoService sincronizacaoService;
+
+    public SincronizacaoController(SincronizacaoService sincronizacaoService) {
+        this.sincronizacaoService = sincronizacaoService;
+    }
+
+    // Sem "desde" devolve a carga completa; depois, só o que mudou desde o token recebido
+    @GetMapping({"","/"})
+    public ResponseEntity<SincronizacaoService.Mudancas> get(@RequestParam(required = false) Long desde) {
+        return ResponseEntity.ok().body(sincronizacaoService.mudancas(desde));
+    }
+}
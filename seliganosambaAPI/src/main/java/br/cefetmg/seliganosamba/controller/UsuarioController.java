@@ -7,8 +7,11 @@ import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 import org.springframework.web.server.ResponseStatusException;
 
+import br.cefetmg.seliganosamba.dto.UsuarioResumo;
 import br.cefetmg.seliganosamba.model.Usuario;
 import br.cefetmg.seliganosamba.repository.UsuarioRepository;
+import br.cefetmg.seliganosamba.service.SincronizacaoService;
+import br.cefetmg.seliganosamba.service.SincronizacaoService.Entidade;
 
 @CrossOrigin(origins = "*", allowedHeaders = "*")
 @RestController
@@ -16,9 +19,11 @@ import br.cefetmg.seliganosamba.repository.UsuarioRepository;
 public class UsuarioController {
 
     private final UsuarioRepository usuarioRepository;
+    private final SincronizacaoService sincronizacaoService;
 
-    public UsuarioController(UsuarioRepository usuarioRepository) {
+    public UsuarioController(UsuarioRepository usuarioRepository, SincronizacaoService sincronizacaoService) {
         this.usuarioRepository = usuarioRepository;
+        this.sincronizacaoService = sincronizacaoService;
     }
 
     @GetMapping("/{id}")
@@ -39,15 +44,22 @@ public class UsuarioController {
         return ResponseEntity.status(HttpStatus.NOT_FOUND).build();
     }
 
+    // A senha não sai na listagem; o login ainda usa GET /email/{email}
     @GetMapping({"","/"})
     public ResponseEntity<List<Usuario>> getAll() {
-        List<Usuario> usuarios = usuarioRepository.findAll();
+        List<Usuario> usuarios = usuarioRepository.findAllSemSenha();
+        return ResponseEntity.ok().body(usuarios);
+    }
+
+    @GetMapping(value = {"","/"}, params = "view=resumo")
+    public ResponseEntity<List<UsuarioResumo>> getAllResumo() {
+        List<UsuarioResumo> usuarios = usuarioRepository.findAllResumo();
         return ResponseEntity.ok().body(usuarios);
     }
 
     @PostMapping({"","/"})
     public ResponseEntity<Usuario> create(@RequestBody Usuario usuario) {
-        Long id = usuarioRepository.insert(usuario);
+        Long id = sincronizacaoService.inserir(Entidade.USUARIO, () -> usuarioRepository.insert(usuario));
         usuario.setIdUsuario(id);
         return ResponseEntity.ok().body(usuario);
     }
@@ -57,7 +69,8 @@ public class UsuarioController {
         if (usuario.getIdUsuario() == null) {
             throw new ResponseStatusException(HttpStatus.NOT_FOUND, "Usuário não encontrado");
         }
-        int qtd = usuarioRepository.update(usuario);
+        int qtd = sincronizacaoService.alterar(Entidade.USUARIO, usuario.getIdUsuario(),
+                () -> usuarioRepository.update(usuario));
         if (qtd == 0) {
             throw new ResponseStatusException(HttpStatus.NOT_FOUND, "Nenhum usuário alterado");
         }
@@ -76,7 +89,7 @@ public class UsuarioController {
         if (usuario == null) {
             throw new ResponseStatusException(HttpStatus.NOT_FOUND, "Usuário não encontrado");
         }
-        int qtd = usuarioRepository.delete(id);
+        int qtd = sincronizacaoService.remover(Entidade.USUARIO, id, () -> usuarioRepository.delete(id));
         if (qtd == 0) {
             throw new ResponseStatusException(HttpStatus.NOT_FOUND, "Nenhum usuário excluído.");
         }
@@ -88,7 +101,8 @@ public class UsuarioController {
 
     @PatchMapping("/{id}/ativo")
     public ResponseEntity<Void> updateAtivo(@PathVariable Long id, @RequestParam Boolean ativo) {
-        int qtd = usuarioRepository.updateAtivo(id, ativo);
+        int qtd = sincronizacaoService.alterar(Entidade.USUARIO, id,
+                () -> usuarioRepository.updateAtivo(id, ativo));
         if (qtd == 0) {
             throw new ResponseStatusException(HttpStatus.NOT_FOUND, "Usuário não encontrado");
         }
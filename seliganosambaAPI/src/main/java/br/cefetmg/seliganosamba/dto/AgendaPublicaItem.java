@@ -0,0 +1,15 @@
+package br.cefetmg.seliganosamba.dto;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+
+// Evento exibido na agenda pública: sem contratante, endereço nem orçamento
+public record AgendaPublicaItem(
+        Long idAgendamento,
+        String nomeEvento,
+        LocalDate dataEvento,
+        LocalTime horario,
+        String tipoEvento,
+        String cidade,
+        String estado) {
+}
@@ -0,0 +1,15 @@
+package br.cefetmg.seliganosamba.dto;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+
+// Visão "resumo" de Agendamento para calendários: sem endereço nem orçamento
+public record AgendamentoResumo(
+        Long idAgendamento,
+        Long idUsuario,
+        String nomeEvento,
+        LocalDate dataEvento,
+        LocalTime horario,
+        String tipoEvento,
+        Boolean aprovado) {
+}
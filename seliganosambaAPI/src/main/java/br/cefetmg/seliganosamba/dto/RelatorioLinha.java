@@ -0,0 +1,18 @@
+package br.cefetmg.seliganosamba.dto;
+
+import java.math.BigDecimal;
+
+// Uma linha do relatório financeiro: agregados de um mês, tipo de evento ou cidade
+public record RelatorioLinha(
+        String chave,
+        long agendamentos,
+        long aprovados,
+        BigDecimal taxaAprovacao,
+        BigDecimal orcamentoTotal,
+        BigDecimal orcamentoMinimo,
+        BigDecimal orcamentoMaximo,
+        long contratos,
+        BigDecimal receitaTotal,
+        BigDecimal receitaMinima,
+        BigDecimal receitaMaxima) {
+}
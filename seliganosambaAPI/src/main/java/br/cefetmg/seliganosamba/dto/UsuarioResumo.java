@@ -0,0 +1,10 @@
+package br.cefetmg.seliganosamba.dto;
+
+// Visão "resumo" de Usuario para listagens: sem senha, telefone ou dtNascimento
+public record UsuarioResumo(
+        Long idUsuario,
+        String nome,
+        String email,
+        String funcao,
+        Boolean ativo) {
+}
@@ -0,0 +1,14 @@
+package br.cefetmg.seliganosamba.model;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class Banda {
+    private Long idBanda;
+    private String slug;  // identificador usado no cabeçalho X-Banda
+    private String nome;
+}
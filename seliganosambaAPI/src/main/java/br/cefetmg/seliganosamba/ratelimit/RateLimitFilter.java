@@ -0,0 +1,185 @@
+package br.cefetmg.seliganosamba.ratelimit;
+
+import java.io.IOException;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import br.cefetmg.seliganosamba.banda.BandaContexto;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+
+/**
+ * Controle de admissão na frente dos controllers: token bucket por cliente e
+ * classe de rota, mais limite de requisições simultâneas por classe. O excesso
+ * recebe 429 com Retry-After em vez de ocupar conexões do banco. Cada banda
+ * tem ainda a própria cota, para que uma banda não esgote a capacidade das outras.
+ */
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE + 10)
+@EnableConfigurationProperties(RateLimitProperties.class)
+public class RateLimitFilter extends OncePerRequestFilter {
+
+    private static final long SWEEP_INTERVAL_NANOS = TimeUnit.SECONDS.toNanos(1);
+
+    private enum Reason {
+        RATE("rate"), TENANT("tenant"), TENANT_CONCURRENCY("tenant-concurrency"), CONCURRENCY("concurrency");
+
+        private final String tag;
+
+        Reason(String tag) {
+            this.tag = tag;
+        }
+    }
+
+    private final RateLimitProperties properties;
+    // Contadores criados uma vez por (classe de rota, motivo): a rejeição é o caminho quente sob sobrecarga
+    private final Map<RouteClass, Map<Reason, Counter>> throttled = new EnumMap<>(RouteClass.class);
+    private final Map<RouteClass, Map<String, TokenBucket>> buckets = new EnumMap<>(RouteClass.class);
+    private final Map<RouteClass, Semaphore> concurrency = new EnumMap<>(RouteClass.class);
+    // Acima de maxClients os clientes novos dividem este balde: a memória fica limitada e uma
+    // enxurrada de chaves diferentes continua contida pelo limite de um cliente só
+    private final Map<RouteClass, TokenBucket> overflow = new EnumMap<>(RouteClass.class);
+    private final AtomicLong nextSweep = new AtomicLong(System.nanoTime());
+    private final Map<Long, TokenBucket> tenantBuckets = new ConcurrentHashMap<>();
+    private final Map<Long, Semaphore> tenantConcurrency = new ConcurrentHashMap<>();
+
+    public RateLimitFilter(RateLimitProperties properties, MeterRegistry meterRegistry) {
+        this.properties = properties;
+        for (RouteClass routeClass : RouteClass.values()) {
+            Map<Reason, Counter> counters = new EnumMap<>(Reason.class);
+            for (Reason reason : Reason.values()) {
+                counters.put(reason, Counter.builder("http.server.throttled")
+                        .tag("route", routeClass.name().toLowerCase())
+                        .tag("reason", reason.tag)
+                        .register(meterRegistry));
+            }
+            throttled.put(routeClass, counters);
+            buckets.put(routeClass, new ConcurrentHashMap<>());
+            RateLimitProperties.Limit limit = properties.limitFor(routeClass);
+            concurrency.put(routeClass, new Semaphore(limit.getConcurrency()));
+            overflow.put(routeClass, new TokenBucket(limit.getPerSecond(), limit.getBurst(), System.nanoTime()));
+        }
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return !properties.isEnabled()
+                || !request.getRequestURI().startsWith("/api/")
+                || "OPTIONS".equals(request.getMethod());
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+            throws ServletException, IOException {
+        RouteClass routeClass = RouteClass.of(request);
+        RateLimitProperties.Limit limit = properties.limitFor(routeClass);
+        long now = System.nanoTime();
+
+        long wait = bucketFor(routeClass, clientKey(request), limit, now).tryAcquire(now);
+        if (wait > 0) {
+            reject(response, routeClass, Reason.RATE, TimeUnit.NANOSECONDS.toSeconds(wait) + 1);
+            return;
+        }
+
+        Semaphore tenantSlots = null;
+        if (BandaContexto.isDefinida()) {
+            Long tenant = BandaContexto.getAtual();
+            RateLimitProperties.Limit tenantLimit = properties.getTenant();
+            long tenantWait = tenantBuckets.computeIfAbsent(tenant,
+                    k -> new TokenBucket(tenantLimit.getPerSecond(), tenantLimit.getBurst(), now)).tryAcquire(now);
+            if (tenantWait > 0) {
+                reject(response, routeClass, Reason.TENANT, TimeUnit.NANOSECONDS.toSeconds(tenantWait) + 1);
+                return;
+            }
+            tenantSlots = tenantConcurrency.computeIfAbsent(tenant, k -> new Semaphore(tenantLimit.getConcurrency()));
+            if (!tenantSlots.tryAcquire()) {
+                reject(response, routeClass, Reason.TENANT_CONCURRENCY, 1);
+                return;
+            }
+        }
+
+        Semaphore slots = concurrency.get(routeClass);
+        if (!slots.tryAcquire()) {
+            if (tenantSlots != null) {
+                tenantSlots.release();
+            }
+            reject(response, routeClass, Reason.CONCURRENCY, 1);
+            return;
+        }
+        try {
+            chain.doFilter(request, response);
+        } finally {
+            slots.release();
+            if (tenantSlots != null) {
+                tenantSlots.release();
+            }
+        }
+    }
+
+    private TokenBucket bucketFor(RouteClass routeClass, String key, RateLimitProperties.Limit limit, long now) {
+        Map<String, TokenBucket> clients = buckets.get(routeClass);
+        TokenBucket bucket = clients.get(key);
+        if (bucket != null) {
+            return bucket;
+        }
+        if (clients.size() >= properties.getMaxClients()) {
+            sweep(now);
+            if (clients.size() >= properties.getMaxClients()) {
+                return overflow.get(routeClass);
+            }
+        }
+        return clients.computeIfAbsent(key, k -> new TokenBucket(limit.getPerSecond(), limit.getBurst(), now));
+    }
+
+    // No máximo uma varredura por segundo, feita pela thread que ganhar o compare-and-set
+    private void sweep(long now) {
+        long next = nextSweep.get();
+        if (now - next < 0 || !nextSweep.compareAndSet(next, now + SWEEP_INTERVAL_NANOS)) {
+            return;
+        }
+        buckets.values().forEach(clients -> clients.values().removeIf(bucket -> bucket.isIdle(now)));
+    }
+
+    // O proxy confiável só acrescenta ao X-Forwarded-For: a entrada da direita é a que ele viu,
+    // as da esquerda vêm do cliente e não servem de chave
+    private String clientKey(HttpServletRequest request) {
+        if (properties.isTrustForwardedFor()) {
+            String forwarded = request.getHeader("X-Forwarded-For");
+            if (forwarded != null && !forwarded.isBlank()) {
+                String last = forwarded.substring(forwarded.lastIndexOf(',') + 1).trim();
+                if (!last.isEmpty()) {
+                    return last;
+                }
+            }
+        }
+        return request.getRemoteAddr();
+    }
+
+    private void reject(HttpServletResponse response, RouteClass routeClass, Reason reason, long retryAfterSeconds)
+            throws IOException {
+        throttled.get(routeClass).get(reason).increment();
+        response.setStatus(HttpStatus.TOO_MANY_REQUESTS.value());
+        response.setHeader(HttpHeaders.RETRY_AFTER, Long.toString(retryAfterSeconds));
+        // O navegador só expõe o 429 ao app se a resposta também tiver CORS
+        response.setHeader(HttpHeaders.ACCESS_CONTROL_ALLOW_ORIGIN, "*");
+        response.setHeader(HttpHeaders.ACCESS_CONTROL_EXPOSE_HEADERS, HttpHeaders.RETRY_AFTER);
+        response.setContentType("application/json");
+        response.getWriter().write("{\"status\":429,\"error\":\"Muitas requisições, tente novamente em instantes.\"}");
+    }
+}
@@ -0,0 +1,47 @@
+package br.cefetmg.seliganosamba.ratelimit;
+
+import java.util.EnumMap;
+import java.util.Map;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import lombok.Data;
+
+@Data
+@ConfigurationProperties("ratelimit")
+public class RateLimitProperties {
+
+    private boolean enabled = true;
+    // Só atrás de um proxy que acrescenta o IP do cliente ao X-Forwarded-For (vale a última entrada)
+    private boolean trustForwardedFor = false;
+    private int maxClients = 10_000;
+    private Map<RouteClass, Limit> routes = new EnumMap<>(RouteClass.class);
+    // Cota de cada banda, somada por todos os clientes e rotas dela
+    private Limit tenant = new Limit();
+
+    @Data
+    public static class Limit {
+        private double perSecond = 50;
+        private int burst = 100;
+        private int concurrency = 128;
+
+        // O TokenBucket divide por perSecond: um valor inválido falha na inicialização, não na primeira requisição
+        public void setPerSecond(double perSecond) {
+            if (!(perSecond > 0)) {
+                throw new IllegalArgumentException("ratelimit: per-second deve ser maior que zero, recebido " + perSecond);
+            }
+            this.perSecond = perSecond;
+        }
+
+        public void setBurst(int burst) {
+            if (burst < 1) {
+                throw new IllegalArgumentException("ratelimit: burst deve ser pelo menos 1, recebido " + burst);
+            }
+            this.burst = burst;
+        }
+    }
+
+    public Limit limitFor(RouteClass routeClass) {
+        return routes.computeIfAbsent(routeClass, k -> new Limit());
+    }
+}
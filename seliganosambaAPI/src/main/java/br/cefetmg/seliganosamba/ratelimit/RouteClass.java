@@ -0,0 +1,25 @@
+package br.cefetmg.seliganosamba.ratelimit;
+
+import jakarta.servlet.http.HttpServletRequest;
+
+public enum RouteClass {
+    PUBLIC_READ,
+    PUBLIC_WRITE,
+    DEFAULT;
+
+    private static final String BASE = "/api/v1/seliganosamba";
+
+    // Rotas usadas sem login pela agenda pública e pelos formulários de orçamento e cadastro
+    static RouteClass of(HttpServletRequest request) {
+        String path = request.getRequestURI();
+        String method = request.getMethod();
+        if ("GET".equals(method) && (path.equals(BASE + "/agendamento") || path.equals(BASE + "/agendamento/")
+                || path.startsWith(BASE + "/agenda-publica"))) {
+            return PUBLIC_READ;
+        }
+        if ("POST".equals(method) && (path.startsWith(BASE + "/agendamento") || path.startsWith(BASE + "/usuario"))) {
+            return PUBLIC_WRITE;
+        }
+        return DEFAULT;
+    }
+}
@@ -0,0 +1,44 @@
+package br.cefetmg.seliganosamba.ratelimit;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Token bucket sem lock, implementado como GCRA: guarda apenas o "tempo teórico
+ * de chegada" (TAT) em um AtomicLong e avança com compare-and-set.
+ */
+class TokenBucket {
+
+    private final long intervalNanos;
+    private final long toleranceNanos;
+    private final AtomicLong tat;
+
+    TokenBucket(double perSecond, int burst, long nowNanos) {
+        this.intervalNanos = (long) (1_000_000_000L / perSecond);
+        this.toleranceNanos = intervalNanos * Math.max(burst - 1, 0);
+        this.tat = new AtomicLong(nowNanos);
+    }
+
+    /**
+     * Tenta consumir um token.
+     *
+     * @return 0 se permitido, senão quantos nanos faltam para o próximo token
+     */
+    long tryAcquire(long nowNanos) {
+        while (true) {
+            long current = tat.get();
+            long base = Math.max(current, nowNanos);
+            long wait = base - toleranceNanos - nowNanos;
+            if (wait > 0) {
+                return wait;
+            }
+            if (tat.compareAndSet(current, base + intervalNanos)) {
+                return 0;
+            }
+        }
+    }
+
+    // Balde cheio de novo: pode ser descartado sem mudar o comportamento
+    boolean isIdle(long nowNanos) {
+        return tat.get() <= nowNanos;
+    }
+}
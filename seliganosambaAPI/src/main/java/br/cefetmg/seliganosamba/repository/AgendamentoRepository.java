@@ -3,41 +3,100 @@ package br.cefetmg.seliganosamba.repository;
 import java.time.LocalDate;
 import java.util.List;
 
-import org.jdbi.v3.sqlobject.config.RegisterBeanMapper;
+import org.jdbi.v3.sqlobject.config.RegisterConstructorMapper;
+import org.jdbi.v3.sqlobject.config.RegisterRowMapper;
 import org.jdbi.v3.sqlobject.customizer.Bind;
-import org.jdbi.v3.sqlobject.customizer.BindBean;
+import org.jdbi.v3.sqlobject.customizer.BindList;
 import org.jdbi.v3.sqlobject.statement.GetGeneratedKeys;
 import org.jdbi.v3.sqlobject.statement.SqlQuery;
 import org.jdbi.v3.sqlobject.statement.SqlUpdate;
 
+import br.cefetmg.seliganosamba.dto.AgendaPublicaItem;
+import br.cefetmg.seliganosamba.dto.AgendamentoResumo;
 import br.cefetmg.seliganosamba.model.Agendamento;
+import br.cefetmg.seliganosamba.repository.mapper.AgendamentoMapper;
+import br.cefetmg.seliganosamba.repository.mapper.BindModelo;
 
-@RegisterBeanMapper(Agendamento.class)
+@RegisterRowMapper(AgendamentoMapper.class)
 public interface AgendamentoRepository {
 
-    @SqlQuery("SELECT * FROM Agendamento;")
+    @SqlQuery("SELECT * FROM Agendamento WHERE idBanda = :banda;")
     List<Agendamento> findAll();
 
-    @SqlQuery("SELECT * FROM Agendamento WHERE idAgendamento = :id;")
+    @SqlQuery("""
+        SELECT idAgendamento, idUsuario, nomeEvento, dataEvento, horario, tipoEvento, aprovado
+        FROM Agendamento WHERE idBanda = :banda;
+    """)
+    @RegisterConstructorMapper(AgendamentoResumo.class)
+    List<AgendamentoResumo> findAllResumo();
+
+    @SqlQuery("""
+        SELECT idAgendamento, idUsuario, nomeEvento, dataEvento, horario, tipoEvento, aprovado
+        FROM Agendamento WHERE idBanda = :banda AND idUsuario = :idUsuario;
+    """)
+    @RegisterConstructorMapper(AgendamentoResumo.class)
+    List<AgendamentoResumo> findResumoByUsuarioId(@Bind("idUsuario") Long idUsuario);
+
+    @SqlQuery("SELECT * FROM Agendamento WHERE idBanda = :banda AND idAgendamento = :id;")
     Agendamento findById(@Bind("id") Long id);
 
-    @SqlQuery("SELECT * FROM Agendamento WHERE idUsuario = :idUsuario;")
+    @SqlQuery("SELECT * FROM Agendamento WHERE idBanda = :banda AND idAgendamento IN (<ids>);")
+    List<Agendamento> findByIds(@BindList("ids") List<Long> ids);
+
+    @SqlQuery("SELECT * FROM Agendamento WHERE idBanda = :banda AND idUsuario = :idUsuario;")
     List<Agendamento> findByUsuarioId(@Bind("idUsuario") Long idUsuario);
 
-    @SqlQuery("SELECT * FROM Agendamento WHERE dataEvento = :dataEvento;")
+    @SqlQuery("SELECT * FROM Agendamento WHERE idBanda = :banda AND dataEvento = :dataEvento;")
     List<Agendamento> findByDataEvento(@Bind("dataEvento") LocalDate dataEvento);
 
-    @SqlQuery("SELECT * FROM Agendamento WHERE aprovado = :aprovado;")
+    @SqlQuery("""
+        SELECT * FROM Agendamento WHERE idBanda = :banda AND dataEvento BETWEEN :inicio AND :fim
+        ORDER BY dataEvento, horario;
+    """)
+    List<Agendamento> findByPeriodo(@Bind("inicio") LocalDate inicio, @Bind("fim") LocalDate fim);
+
+    // Inclui as tabelas frias; só para períodos que alcançam o que já foi arquivado
+    @SqlQuery("""
+        SELECT * FROM Agendamento WHERE idBanda = :banda AND dataEvento BETWEEN :inicio AND :fim
+        UNION ALL
+        SELECT * FROM AgendamentoArquivo WHERE idBanda = :banda AND dataEvento BETWEEN :inicio AND :fim
+        ORDER BY dataEvento, horario;
+    """)
+    List<Agendamento> findByPeriodoComArquivo(@Bind("inicio") LocalDate inicio, @Bind("fim") LocalDate fim);
+
+    // Só consulta as tabelas de arquivo quando o período começa antes do limite do que já foi arquivado
+    default List<Agendamento> findByPeriodo(LocalDate inicio, LocalDate fim, LocalDate limiteArquivo) {
+        return inicio.isBefore(limiteArquivo) ? findByPeriodoComArquivo(inicio, fim) : findByPeriodo(inicio, fim);
+    }
+
+    // Consulta por id que também enxerga o arquivo; o lote é movido numa transação, então só um lado tem a linha
+    @SqlQuery("""
+        SELECT * FROM Agendamento WHERE idBanda = :banda AND idAgendamento = :id
+        UNION ALL
+        SELECT * FROM AgendamentoArquivo WHERE idBanda = :banda AND idAgendamento = :id;
+    """)
+    Agendamento findByIdComArquivo(@Bind("id") Long id);
+
+    @SqlQuery("SELECT * FROM Agendamento WHERE idBanda = :banda AND aprovado = :aprovado;")
     List<Agendamento> findByAprovado(@Bind("aprovado") Boolean aprovado);
 
+    @SqlQuery("""
+        SELECT idAgendamento, nomeEvento, dataEvento, horario, tipoEvento, cidade, estado
+        FROM Agendamento
+        WHERE idBanda = :banda AND aprovado = true AND dataEvento >= :hoje
+        ORDER BY dataEvento, horario;
+    """)
+    @RegisterConstructorMapper(AgendaPublicaItem.class)
+    List<AgendaPublicaItem> findAgendaPublica(@Bind("hoje") LocalDate hoje);
+
     @SqlUpdate("""
-        INSERT INTO Agendamento (idUsuario, nomeEvento, quantidadeConvidados, rua, numero, bairro, cidade, estado, 
+        INSERT INTO Agendamento (idBanda, idUsuario, nomeEvento, quantidadeConvidados, rua, numero, bairro, cidade, estado, 
                                 dataEvento, horario, sonorizacao, tipoEvento, orcamento, aprovado, dataCriacao)
-        VALUES (:idUsuario, :nomeEvento, :quantidadeConvidados, :rua, :numero, :bairro, :cidade, :estado,
+        VALUES (:banda, :idUsuario, :nomeEvento, :quantidadeConvidados, :rua, :numero, :bairro, :cidade, :estado,
                 :dataEvento, :horario, :sonorizacao, :tipoEvento, :orcamento, :aprovado, :dataCriacao);
     """)
     @GetGeneratedKeys
-    Long insert(@BindBean Agendamento agendamento);
+    Long insert(@BindModelo Agendamento agendamento);
 
     @SqlUpdate("""
         UPDATE Agendamento
@@ -56,13 +115,13 @@ public interface AgendamentoRepository {
             orcamento = :orcamento,
             aprovado = :aprovado,
             dataCriacao = :dataCriacao
-        WHERE idAgendamento = :idAgendamento;
+        WHERE idBanda = :banda AND idAgendamento = :idAgendamento;
     """)
-    int update(@BindBean Agendamento agendamento);
+    int update(@BindModelo Agendamento agendamento);
 
-    @SqlUpdate("DELETE FROM Agendamento WHERE idAgendamento = :id;")
+    @SqlUpdate("DELETE FROM Agendamento WHERE idBanda = :banda AND idAgendamento = :id;")
     int delete(@Bind("id") Long id);
 
-    @SqlUpdate("UPDATE Agendamento SET aprovado = :aprovado WHERE idAgendamento = :id;")
+    @SqlUpdate("UPDATE Agendamento SET aprovado = :aprovado WHERE idBanda = :banda AND idAgendamento = :id;")
     int updateAprovado(@Bind("id") Long id, @Bind("aprovado") Boolean aprovado);
 }
\ No newline at end of file
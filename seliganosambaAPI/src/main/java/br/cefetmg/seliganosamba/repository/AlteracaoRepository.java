@@ -0,0 +1,60 @@
+package br.cefetmg.seliganosamba.repository;
+
+import java.util.List;
+
+import org.jdbi.v3.sqlobject.config.RegisterConstructorMapper;
+import org.jdbi.v3.sqlobject.customizer.Bind;
+import org.jdbi.v3.sqlobject.customizer.BindList;
+import org.jdbi.v3.sqlobject.statement.SqlQuery;
+import org.jdbi.v3.sqlobject.statement.SqlUpdate;
+
+// Log de alterações usado pela sincronização incremental; idAlteracao é o token dos clientes
+public interface AlteracaoRepository {
+
+    // recente: gravada dentro da margem de segurança, pode ainda haver ids menores por confirmar
+    record Alteracao(Long idAlteracao, String entidade, Long idRegistro, boolean removido, boolean recente) {
+    }
+
+    // A data vem do banco, no mesmo comando que gera o id, para ser comparável com a ordem dos ids
+    @SqlUpdate("""
+        INSERT INTO Alteracao (idBanda, entidade, idRegistro, removido, dataAlteracao)
+        VALUES (:banda, :entidade, :idRegistro, :removido, CURRENT_TIMESTAMP(3));
+    """)
+    void insert(@Bind("entidade") String entidade, @Bind("idRegistro") Long idRegistro,
+                @Bind("removido") boolean removido);
+
+    @SqlQuery("""
+        SELECT idAlteracao, entidade, idRegistro, removido,
+               dataAlteracao > TIMESTAMPADD(MICROSECOND, -1000 * :margemMs, CURRENT_TIMESTAMP(3)) AS recente
+        FROM Alteracao
+        WHERE idBanda = :banda AND idAlteracao > :desde
+        ORDER BY idAlteracao
+        LIMIT :limite;
+    """)
+    @RegisterConstructorMapper(Alteracao.class)
+    List<Alteracao> findDesde(@Bind("desde") long desde, @Bind("margemMs") long margemMs, @Bind("limite") int limite);
+
+    // Maior token seguro: logo antes da primeira entrada recente, ou a última entrada se não houver nenhuma
+    @SqlQuery("""
+        SELECT COALESCE(
+            (SELECT MIN(idAlteracao) - 1 FROM Alteracao
+             WHERE idBanda = :banda
+               AND dataAlteracao > TIMESTAMPADD(MICROSECOND, -1000 * :margemMs, CURRENT_TIMESTAMP(3))),
+            (SELECT MAX(idAlteracao) FROM Alteracao WHERE idBanda = :banda),
+            0);
+    """)
+    long findToken(@Bind("margemMs") long margemMs);
+
+    // Entradas com outra mais recente para o mesmo registro: o cliente só precisa da última
+    @SqlQuery("""
+        SELECT a.idAlteracao FROM Alteracao a
+        WHERE EXISTS (SELECT 1 FROM Alteracao b
+                      WHERE b.idBanda = a.idBanda AND b.entidade = a.entidade
+                        AND b.idRegistro = a.idRegistro AND b.idAlteracao > a.idAlteracao)
+        LIMIT :lote;
+    """)
+    List<Long> findSubstituidas(@Bind("lote") int lote);
+
+    @SqlUpdate("DELETE FROM Alteracao WHERE idAlteracao IN (<ids>);")
+    int remover(@BindList("ids") List<Long> ids);
+}
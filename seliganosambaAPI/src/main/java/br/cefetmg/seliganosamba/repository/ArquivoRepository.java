@@ -0,0 +1,85 @@
+package br.cefetmg.seliganosamba.repository;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import org.jdbi.v3.sqlobject.config.RegisterRowMapper;
+import org.jdbi.v3.sqlobject.customizer.Bind;
+import org.jdbi.v3.sqlobject.customizer.BindList;
+import org.jdbi.v3.sqlobject.statement.SqlQuery;
+import org.jdbi.v3.sqlobject.statement.SqlUpdate;
+import org.jdbi.v3.sqlobject.transaction.Transaction;
+
+import br.cefetmg.seliganosamba.model.Agendamento;
+import br.cefetmg.seliganosamba.model.Contrato;
+import br.cefetmg.seliganosamba.repository.mapper.AgendamentoMapper;
+import br.cefetmg.seliganosamba.repository.mapper.ContratoMapper;
+
+// Tabelas frias com os eventos já realizados e seus contratos (mesma estrutura das tabelas quentes, ver db/arquivo.sql)
+public interface ArquivoRepository {
+
+    // Só eventos concluídos: aprovados e com o contrato assinado pelas duas partes. Orçamentos
+    // pendentes e contratos sem assinatura ficam quentes, onde ainda podem ser aprovados e assinados
+    @SqlQuery("""
+        SELECT a.idAgendamento FROM Agendamento a
+        WHERE a.dataEvento < :limite
+          AND a.aprovado = TRUE
+          AND EXISTS (SELECT 1 FROM Contrato c
+                      WHERE c.idAgendamento = a.idAgendamento
+                        AND c.assinaturaProdutor = TRUE
+                        AND c.assinaturaContratante = TRUE)
+        ORDER BY a.idAgendamento
+        LIMIT :lote;
+    """)
+    List<Long> findIdsParaArquivar(@Bind("limite") LocalDate limite, @Bind("lote") int lote);
+
+    @SqlUpdate("INSERT INTO ContratoArquivo SELECT * FROM Contrato WHERE idAgendamento IN (<ids>);")
+    int copiarContratos(@BindList("ids") List<Long> ids);
+
+    @SqlUpdate("INSERT INTO AgendamentoArquivo SELECT * FROM Agendamento WHERE idAgendamento IN (<ids>);")
+    int copiarAgendamentos(@BindList("ids") List<Long> ids);
+
+    // Remoções para a sincronização incremental, com a banda de cada linha (o arquivamento roda sem banda no contexto)
+    @SqlUpdate("""
+        INSERT INTO Alteracao (idBanda, entidade, idRegistro, removido, dataAlteracao)
+        SELECT idBanda, 'CONTRATO', idContrato, TRUE, CURRENT_TIMESTAMP(3)
+        FROM Contrato WHERE idAgendamento IN (<ids>);
+    """)
+    int registrarContratosRemovidos(@BindList("ids") List<Long> ids);
+
+    @SqlUpdate("""
+        INSERT INTO Alteracao (idBanda, entidade, idRegistro, removido, dataAlteracao)
+        SELECT idBanda, 'AGENDAMENTO', idAgendamento, TRUE, CURRENT_TIMESTAMP(3)
+        FROM Agendamento WHERE idAgendamento IN (<ids>);
+    """)
+    int registrarAgendamentosRemovidos(@BindList("ids") List<Long> ids);
+
+    @SqlUpdate("DELETE FROM Contrato WHERE idAgendamento IN (<ids>);")
+    int removerContratos(@BindList("ids") List<Long> ids);
+
+    @SqlUpdate("DELETE FROM Agendamento WHERE idAgendamento IN (<ids>);")
+    int removerAgendamentos(@BindList("ids") List<Long> ids);
+
+    // Um lote inteiro é movido numa transação: se cair no meio, a próxima execução retoma do mesmo ponto
+    @Transaction
+    default int arquivarLote(List<Long> ids) {
+        copiarContratos(ids);
+        copiarAgendamentos(ids);
+        registrarContratosRemovidos(ids);
+        registrarAgendamentosRemovidos(ids);
+        removerContratos(ids);
+        return removerAgendamentos(ids);
+    }
+
+    // Evento mais recente já arquivado, de qualquer banda; nulo com o arquivo vazio
+    @SqlQuery("SELECT MAX(dataEvento) FROM AgendamentoArquivo;")
+    LocalDate findUltimaDataArquivada();
+
+    @SqlQuery("SELECT * FROM AgendamentoArquivo WHERE idBanda = :banda;")
+    @RegisterRowMapper(AgendamentoMapper.class)
+    List<Agendamento> findAgendamentos();
+
+    @SqlQuery("SELECT * FROM ContratoArquivo WHERE idBanda = :banda;")
+    @RegisterRowMapper(ContratoMapper.class)
+    List<Contrato> findContratos();
+}
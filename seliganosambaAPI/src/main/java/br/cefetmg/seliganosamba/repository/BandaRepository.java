@@ -0,0 +1,21 @@
+package br.cefetmg.seliganosamba.repository;
+
+import java.util.List;
+
+import org.jdbi.v3.sqlobject.config.RegisterRowMapper;
+import org.jdbi.v3.sqlobject.customizer.Bind;
+import org.jdbi.v3.sqlobject.statement.SqlQuery;
+
+import br.cefetmg.seliganosamba.model.Banda;
+import br.cefetmg.seliganosamba.repository.mapper.BandaMapper;
+
+// Única tabela sem idBanda: é onde as bandas (tenants) são cadastradas
+@RegisterRowMapper(BandaMapper.class)
+public interface BandaRepository {
+
+    @SqlQuery("SELECT * FROM Banda;")
+    List<Banda> findAll();
+
+    @SqlQuery("SELECT * FROM Banda WHERE slug = :slug;")
+    Banda findBySlug(@Bind("slug") String slug);
+}
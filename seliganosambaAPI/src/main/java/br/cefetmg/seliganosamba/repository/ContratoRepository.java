@@ -2,41 +2,61 @@ package br.cefetmg.seliganosamba.repository;
 
 import java.util.List;
 
-import org.jdbi.v3.sqlobject.config.RegisterBeanMapper;
+import org.jdbi.v3.sqlobject.config.RegisterRowMapper;
 import org.jdbi.v3.sqlobject.customizer.Bind;
-import org.jdbi.v3.sqlobject.customizer.BindBean;
+import org.jdbi.v3.sqlobject.customizer.BindList;
 import org.jdbi.v3.sqlobject.statement.GetGeneratedKeys;
 import org.jdbi.v3.sqlobject.statement.SqlQuery;
 import org.jdbi.v3.sqlobject.statement.SqlUpdate;
 
 import br.cefetmg.seliganosamba.model.Contrato;
+import br.cefetmg.seliganosamba.repository.mapper.BindModelo;
+import br.cefetmg.seliganosamba.repository.mapper.ContratoMapper;
 
-@RegisterBeanMapper(Contrato.class)
+@RegisterRowMapper(ContratoMapper.class)
 public interface ContratoRepository {
 
-    @SqlQuery("SELECT * FROM Contrato;")
+    @SqlQuery("SELECT * FROM Contrato WHERE idBanda = :banda;")
     List<Contrato> findAll();
 
-    @SqlQuery("SELECT * FROM Contrato WHERE idContrato = :id;")
+    @SqlQuery("SELECT * FROM Contrato WHERE idBanda = :banda AND idContrato = :id;")
     Contrato findById(@Bind("id") Long id);
 
-    @SqlQuery("SELECT * FROM Contrato WHERE idAgendamento = :idAgendamento;")
+    @SqlQuery("SELECT * FROM Contrato WHERE idBanda = :banda AND idContrato IN (<ids>);")
+    List<Contrato> findByIds(@BindList("ids") List<Long> ids);
+
+    @SqlQuery("SELECT * FROM Contrato WHERE idBanda = :banda AND idAgendamento = :idAgendamento;")
     Contrato findByAgendamentoId(@Bind("idAgendamento") Long idAgendamento);
 
+    // Variantes que também enxergam o contrato já arquivado junto com o evento
+    @SqlQuery("""
+        SELECT * FROM Contrato WHERE idBanda = :banda AND idContrato = :id
+        UNION ALL
+        SELECT * FROM ContratoArquivo WHERE idBanda = :banda AND idContrato = :id;
+    """)
+    Contrato findByIdComArquivo(@Bind("id") Long id);
+
+    @SqlQuery("""
+        SELECT * FROM Contrato WHERE idBanda = :banda AND idAgendamento = :idAgendamento
+        UNION ALL
+        SELECT * FROM ContratoArquivo WHERE idBanda = :banda AND idAgendamento = :idAgendamento;
+    """)
+    Contrato findByAgendamentoIdComArquivo(@Bind("idAgendamento") Long idAgendamento);
+
     @SqlQuery("""
         SELECT * FROM Contrato 
-        WHERE assinaturaProdutor = false OR assinaturaContratante = false;
+        WHERE idBanda = :banda AND (assinaturaProdutor = false OR assinaturaContratante = false);
     """)
     List<Contrato> findPendentesAssinatura();
 
     @SqlUpdate("""
-        INSERT INTO Contrato (idAgendamento, pdf, valor, assinaturaProdutor, 
+        INSERT INTO Contrato (idBanda, idAgendamento, pdf, valor, assinaturaProdutor, 
                             assinaturaContratante, dataCriacao, dataAssinatura)
-        VALUES (:idAgendamento, :pdf, :valor, :assinaturaProdutor, 
+        VALUES (:banda, :idAgendamento, :pdf, :valor, :assinaturaProdutor, 
                 :assinaturaContratante, :dataCriacao, :dataAssinatura);
     """)
     @GetGeneratedKeys
-    Long insert(@BindBean Contrato contrato);
+    Long insert(@BindModelo Contrato contrato);
 
     @SqlUpdate("""
         UPDATE Contrato
@@ -47,25 +67,28 @@ public interface ContratoRepository {
             assinaturaContratante = :assinaturaContratante,
             dataCriacao = :dataCriacao,
             dataAssinatura = :dataAssinatura
-        WHERE idContrato = :idContrato;
+        WHERE idBanda = :banda AND idContrato = :idContrato;
     """)
-    int update(@BindBean Contrato contrato);
+    int update(@BindModelo Contrato contrato);
 
-    @SqlUpdate("DELETE FROM Contrato WHERE idContrato = :id;")
+    @SqlUpdate("DELETE FROM Contrato WHERE idBanda = :banda AND idContrato = :id;")
     int delete(@Bind("id") Long id);
 
+    // Cada parte grava só a própria coluna, condicionada a ainda não ter assinado: a segunda
+    // assinatura a chegar é a que preenche dataAssinatura, e repetir a chamada não altera nada
     @SqlUpdate("""
-        UPDATE Contrato 
-        SET assinaturaProdutor = :assinaturaProdutor,
-            assinaturaContratante = :assinaturaContratante,
-            dataAssinatura = CASE 
-                WHEN :assinaturaProdutor = true AND :assinaturaContratante = true 
-                THEN NOW() 
-                ELSE NULL 
-            END
-        WHERE idContrato = :id;
+        UPDATE Contrato
+        SET assinaturaProdutor = true,
+            dataAssinatura = CASE WHEN assinaturaContratante = true THEN NOW() ELSE dataAssinatura END
+        WHERE idBanda = :banda AND idContrato = :id AND COALESCE(assinaturaProdutor, false) = false;
+    """)
+    int assinarProdutor(@Bind("id") Long id);
+
+    @SqlUpdate("""
+        UPDATE Contrato
+        SET assinaturaContratante = true,
+            dataAssinatura = CASE WHEN assinaturaProdutor = true THEN NOW() ELSE dataAssinatura END
+        WHERE idBanda = :banda AND idContrato = :id AND COALESCE(assinaturaContratante, false) = false;
     """)
-    int updateAssinaturas(@Bind("id") Long id, 
-                         @Bind("assinaturaProdutor") Boolean assinaturaProdutor,
-                         @Bind("assinaturaContratante") Boolean assinaturaContratante);
-}
\ No newline at end of file
+    int assinarContratante(@Bind("id") Long id);
+}
@@ -2,40 +2,45 @@ package br.cefetmg.seliganosamba.repository;
 
 import java.util.List;
 
-import org.jdbi.v3.sqlobject.config.RegisterBeanMapper;
+import org.jdbi.v3.sqlobject.config.RegisterRowMapper;
 import org.jdbi.v3.sqlobject.customizer.Bind;
-import org.jdbi.v3.sqlobject.customizer.BindBean;
+import org.jdbi.v3.sqlobject.customizer.BindList;
 import org.jdbi.v3.sqlobject.statement.GetGeneratedKeys;
 import org.jdbi.v3.sqlobject.statement.SqlQuery;
 import org.jdbi.v3.sqlobject.statement.SqlUpdate;
 
 import br.cefetmg.seliganosamba.model.Ensaio;
+import br.cefetmg.seliganosamba.repository.mapper.BindModelo;
+import br.cefetmg.seliganosamba.repository.mapper.EnsaioMapper;
 
-@RegisterBeanMapper(Ensaio.class)
+@RegisterRowMapper(EnsaioMapper.class)
 public interface EnsaioRepository {
 
-    @SqlQuery("SELECT * FROM Ensaio;")
+    @SqlQuery("SELECT * FROM Ensaio WHERE idBanda = :banda;")
     List<Ensaio> findAll();
 
-    @SqlQuery("SELECT * FROM Ensaio WHERE idEnsaio = :id;")
+    @SqlQuery("SELECT * FROM Ensaio WHERE idBanda = :banda AND idEnsaio = :id;")
     Ensaio findById(@Bind("id") Long id);
 
+    @SqlQuery("SELECT * FROM Ensaio WHERE idBanda = :banda AND idEnsaio IN (<ids>);")
+    List<Ensaio> findByIds(@BindList("ids") List<Long> ids);
+
     @SqlUpdate("""
-        INSERT INTO Ensaio (dtEnsaio, horario, local)
-        VALUES (:dtEnsaio, :horario, :local);
+        INSERT INTO Ensaio (idBanda, dtEnsaio, horario, local)
+        VALUES (:banda, :dtEnsaio, :horario, :local);
     """)
     @GetGeneratedKeys
-    Long insert(@BindBean Ensaio ensaio);
+    Long insert(@BindModelo Ensaio ensaio);
 
     @SqlUpdate("""
         UPDATE Ensaio
         SET dtEnsaio = :dtEnsaio,
             horario = :horario,
             local = :local
-        WHERE idEnsaio = :idEnsaio;
+        WHERE idBanda = :banda AND idEnsaio = :idEnsaio;
     """)
-    int update(@BindBean Ensaio ensaio);
+    int update(@BindModelo Ensaio ensaio);
 
-    @SqlUpdate("DELETE FROM Ensaio WHERE idEnsaio = :id;")
+    @SqlUpdate("DELETE FROM Ensaio WHERE idBanda = :banda AND idEnsaio = :id;")
     int delete(@Bind("id") Long id);
 }
@@ -2,39 +2,44 @@ package br.cefetmg.seliganosamba.repository;
 
 import java.util.List;
 
-import org.jdbi.v3.sqlobject.config.RegisterBeanMapper;
+import org.jdbi.v3.sqlobject.config.RegisterRowMapper;
 import org.jdbi.v3.sqlobject.customizer.Bind;
-import org.jdbi.v3.sqlobject.customizer.BindBean;
+import org.jdbi.v3.sqlobject.customizer.BindList;
 import org.jdbi.v3.sqlobject.statement.GetGeneratedKeys;
 import org.jdbi.v3.sqlobject.statement.SqlQuery;
 import org.jdbi.v3.sqlobject.statement.SqlUpdate;
 
 import br.cefetmg.seliganosamba.model.Equipamento;
+import br.cefetmg.seliganosamba.repository.mapper.BindModelo;
+import br.cefetmg.seliganosamba.repository.mapper.EquipamentoMapper;
 
-@RegisterBeanMapper(Equipamento.class)
+@RegisterRowMapper(EquipamentoMapper.class)
 public interface EquipamentoRepository {
 
-    @SqlQuery("SELECT * FROM Equipamento;")
+    @SqlQuery("SELECT * FROM Equipamento WHERE idBanda = :banda;")
     List<Equipamento> findAll();
 
-    @SqlQuery("SELECT * FROM Equipamento WHERE idEquipamento = :id;")
+    @SqlQuery("SELECT * FROM Equipamento WHERE idBanda = :banda AND idEquipamento = :id;")
     Equipamento findById(@Bind("id") Long id);
 
+    @SqlQuery("SELECT * FROM Equipamento WHERE idBanda = :banda AND idEquipamento IN (<ids>);")
+    List<Equipamento> findByIds(@BindList("ids") List<Long> ids);
+
     @SqlUpdate("""
-        INSERT INTO Equipamento (nmEquipamento, disponivel)
-        VALUES (:nmEquipamento, :disponivel);
+        INSERT INTO Equipamento (idBanda, nmEquipamento, disponivel)
+        VALUES (:banda, :nmEquipamento, :disponivel);
     """)
     @GetGeneratedKeys
-    Long insert(@BindBean Equipamento equipamento);
+    Long insert(@BindModelo Equipamento equipamento);
 
     @SqlUpdate("""
         UPDATE Equipamento
         SET nmEquipamento = :nmEquipamento,
             disponivel = :disponivel
-        WHERE idEquipamento = :idEquipamento;
+        WHERE idBanda = :banda AND idEquipamento = :idEquipamento;
     """)
-    int update(@BindBean Equipamento equipamento);
+    int update(@BindModelo Equipamento equipamento);
 
-    @SqlUpdate("DELETE FROM Equipamento WHERE idEquipamento = :id;")
+    @SqlUpdate("DELETE FROM Equipamento WHERE idBanda = :banda AND idEquipamento = :id;")
     int delete(@Bind("id") Long id);
 }
@@ -2,51 +2,76 @@ package br.cefetmg.seliganosamba.repository;
 
 import java.util.List;
 
-import org.jdbi.v3.sqlobject.config.RegisterBeanMapper;
+import org.jdbi.v3.sqlobject.config.RegisterConstructorMapper;
+import org.jdbi.v3.sqlobject.config.RegisterRowMapper;
 import org.jdbi.v3.sqlobject.customizer.Bind;
-import org.jdbi.v3.sqlobject.customizer.BindBean;
+import org.jdbi.v3.sqlobject.customizer.BindList;
 import org.jdbi.v3.sqlobject.statement.GetGeneratedKeys;
 import org.jdbi.v3.sqlobject.statement.SqlQuery;
 import org.jdbi.v3.sqlobject.statement.SqlUpdate;
 
+import br.cefetmg.seliganosamba.dto.UsuarioResumo;
 import br.cefetmg.seliganosamba.model.Usuario;
+import br.cefetmg.seliganosamba.repository.mapper.BindModelo;
+import br.cefetmg.seliganosamba.repository.mapper.UsuarioMapper;
 
-@RegisterBeanMapper(Usuario.class)
+@RegisterRowMapper(UsuarioMapper.class)
 public interface UsuarioRepository {
 
-    @SqlQuery("SELECT * FROM Usuario;")
+    @SqlQuery("SELECT * FROM Usuario WHERE idBanda = :banda;")
     List<Usuario> findAll();
 
-    @SqlQuery("SELECT * FROM Usuario WHERE idUsuario = :id;")
+    // Listagem padrão de GET /usuario e carga da sincronização: todas as colunas menos a senha
+    @SqlQuery("""
+        SELECT idUsuario, nome, email, funcao, dtNascimento, telefone, dataCadastro, ativo
+        FROM Usuario
+        WHERE idBanda = :banda;
+    """)
+    List<Usuario> findAllSemSenha();
+
+    @SqlQuery("SELECT idUsuario, nome, email, funcao, ativo FROM Usuario WHERE idBanda = :banda;")
+    @RegisterConstructorMapper(UsuarioResumo.class)
+    List<UsuarioResumo> findAllResumo();
+
+    @SqlQuery("SELECT * FROM Usuario WHERE idBanda = :banda AND idUsuario = :id;")
     Usuario findById(@Bind("id") Long id);
 
-    @SqlQuery("SELECT * FROM Usuario WHERE email = :email;")
+    // Mesmas colunas de findAllSemSenha, para a sincronização incremental
+    @SqlQuery("""
+        SELECT idUsuario, nome, email, funcao, dtNascimento, telefone, dataCadastro, ativo
+        FROM Usuario
+        WHERE idBanda = :banda AND idUsuario IN (<ids>);
+    """)
+    List<Usuario> findByIdsSemSenha(@BindList("ids") List<Long> ids);
+
+    @SqlQuery("SELECT * FROM Usuario WHERE idBanda = :banda AND email = :email;")
     Usuario findByEmail(@Bind("email") String email);
 
     @SqlUpdate("""
-        INSERT INTO Usuario (nome, email, senha, funcao, dtNascimento, telefone, dataCadastro, ativo)
-        VALUES (:nome, :email, :senha, :funcao, :dtNascimento, :telefone, :dataCadastro, :ativo);
+        INSERT INTO Usuario (idBanda, nome, email, senha, funcao, dtNascimento, telefone, dataCadastro, ativo)
+        VALUES (:banda, :nome, :email, :senha, :funcao, :dtNascimento, :telefone, :dataCadastro, :ativo);
     """)
     @GetGeneratedKeys
-    Long insert(@BindBean Usuario usuario);
+    Long insert(@BindModelo Usuario usuario);
 
+    // Sem senha no corpo a atual é mantida (as listagens não a devolvem mais)
     @SqlUpdate("""
         UPDATE Usuario
         SET nome = :nome,
             email = :email,
-            senha = :senha,
+            senha = COALESCE(:senha, senha),
             funcao = :funcao,
             dtNascimento = :dtNascimento,
             telefone = :telefone,
             dataCadastro = :dataCadastro,
             ativo = :ativo
-        WHERE idUsuario = :idUsuario;
+        WHERE idBanda = :banda AND idUsuario = :idUsuario;
     """)
-    int update(@BindBean Usuario usuario);
+    int update(@BindModelo Usuario usuario);
 
-    @SqlUpdate("DELETE FROM Usuario WHERE idUsuario = :id;")
+    @SqlUpdate("DELETE FROM Usuario WHERE idBanda = :banda AND idUsuario = :id;")
     int delete(@Bind("id") Long id);
 
-    @SqlUpdate("UPDATE Usuario SET ativo = :ativo WHERE idUsuario = :id;")
+    @SqlUpdate("UPDATE Usuario SET ativo = :ativo WHERE idBanda = :banda AND idUsuario = :id;")
     int updateAtivo(@Bind("id") Long id, @Bind("ativo") Boolean ativo);
 }
\ No newline at end of file
@@ -0,0 +1,88 @@
+package br.cefetmg.seliganosamba.repository.mapper;
+
+import java.math.BigDecimal;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.Optional;
+
+import org.jdbi.v3.core.argument.Argument;
+import org.jdbi.v3.core.argument.NamedArgumentFinder;
+import org.jdbi.v3.core.mapper.RowMapper;
+import org.jdbi.v3.core.statement.StatementContext;
+
+import br.cefetmg.seliganosamba.model.Agendamento;
+
+public class AgendamentoMapper implements RowMapper<Agendamento> {
+
+    @Override
+    public Agendamento map(ResultSet rs, StatementContext ctx) throws SQLException {
+        return specialize(rs, ctx).map(rs, ctx);
+    }
+
+    @Override
+    public RowMapper<Agendamento> specialize(ResultSet rs, StatementContext ctx) throws SQLException {
+        Colunas colunas = new Colunas(rs, ctx);
+        Colunas.Coluna<Long> idAgendamento = colunas.get("idAgendamento", Long.class);
+        Colunas.Coluna<Long> idUsuario = colunas.get("idUsuario", Long.class);
+        Colunas.Coluna<String> nomeEvento = colunas.get("nomeEvento", String.class);
+        Colunas.Coluna<Integer> quantidadeConvidados = colunas.get("quantidadeConvidados", Integer.class);
+        Colunas.Coluna<String> rua = colunas.get("rua", String.class);
+        Colunas.Coluna<String> numero = colunas.get("numero", String.class);
+        Colunas.Coluna<String> bairro = colunas.get("bairro", String.class);
+        Colunas.Coluna<String> cidade = colunas.get("cidade", String.class);
+        Colunas.Coluna<String> estado = colunas.get("estado", String.class);
+        Colunas.Coluna<LocalDate> dataEvento = colunas.get("dataEvento", LocalDate.class);
+        Colunas.Coluna<LocalTime> horario = colunas.get("horario", LocalTime.class);
+        Colunas.Coluna<Boolean> sonorizacao = colunas.get("sonorizacao", Boolean.class);
+        Colunas.Coluna<String> tipoEvento = colunas.get("tipoEvento", String.class);
+        Colunas.Coluna<BigDecimal> orcamento = colunas.get("orcamento", BigDecimal.class);
+        Colunas.Coluna<Boolean> aprovado = colunas.get("aprovado", Boolean.class);
+        Colunas.Coluna<LocalDateTime> dataCriacao = colunas.get("dataCriacao", LocalDateTime.class);
+
+        return (linha, contexto) -> {
+            Agendamento agendamento = new Agendamento();
+            idAgendamento.ler(linha, contexto, agendamento::setIdAgendamento);
+            idUsuario.ler(linha, contexto, agendamento::setIdUsuario);
+            nomeEvento.ler(linha, contexto, agendamento::setNomeEvento);
+            quantidadeConvidados.ler(linha, contexto, agendamento::setQuantidadeConvidados);
+            rua.ler(linha, contexto, agendamento::setRua);
+            numero.ler(linha, contexto, agendamento::setNumero);
+            bairro.ler(linha, contexto, agendamento::setBairro);
+            cidade.ler(linha, contexto, agendamento::setCidade);
+            estado.ler(linha, contexto, agendamento::setEstado);
+            dataEvento.ler(linha, contexto, agendamento::setDataEvento);
+            horario.ler(linha, contexto, agendamento::setHorario);
+            sonorizacao.ler(linha, contexto, agendamento::setSonorizacao);
+            tipoEvento.ler(linha, contexto, agendamento::setTipoEvento);
+            orcamento.ler(linha, contexto, agendamento::setOrcamento);
+            aprovado.ler(linha, contexto, agendamento::setAprovado);
+            dataCriacao.ler(linha, contexto, agendamento::setDataCriacao);
+            return agendamento;
+        };
+    }
+
+    public static NamedArgumentFinder argumentos(Agendamento agendamento) {
+        return (nome, ctx) -> switch (nome) {
+            case "idAgendamento" -> ctx.findArgumentFor(Long.class, agendamento.getIdAgendamento());
+            case "idUsuario" -> ctx.findArgumentFor(Long.class, agendamento.getIdUsuario());
+            case "nomeEvento" -> ctx.findArgumentFor(String.class, agendamento.getNomeEvento());
+            case "quantidadeConvidados" -> ctx.findArgumentFor(Integer.class, agendamento.getQuantidadeConvidados());
+            case "rua" -> ctx.findArgumentFor(String.class, agendamento.getRua());
+            case "numero" -> ctx.findArgumentFor(String.class, agendamento.getNumero());
+            case "bairro" -> ctx.findArgumentFor(String.class, agendamento.getBairro());
+            case "cidade" -> ctx.findArgumentFor(String.class, agendamento.getCidade());
+            case "estado" -> ctx.findArgumentFor(String.class, agendamento.getEstado());
+            case "dataEvento" -> ctx.findArgumentFor(LocalDate.class, agendamento.getDataEvento());
+            case "horario" -> ctx.findArgumentFor(LocalTime.class, agendamento.getHorario());
+            case "sonorizacao" -> ctx.findArgumentFor(Boolean.class, agendamento.getSonorizacao());
+            case "tipoEvento" -> ctx.findArgumentFor(String.class, agendamento.getTipoEvento());
+            case "orcamento" -> ctx.findArgumentFor(BigDecimal.class, agendamento.getOrcamento());
+            case "aprovado" -> ctx.findArgumentFor(Boolean.class, agendamento.getAprovado());
+            case "dataCriacao" -> ctx.findArgumentFor(LocalDateTime.class, agendamento.getDataCriacao());
+            default -> Optional.<Argument>empty();
+        };
+    }
+}
@@ -0,0 +1,33 @@
+package br.cefetmg.seliganosamba.repository.mapper;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+
+import org.jdbi.v3.core.mapper.RowMapper;
+import org.jdbi.v3.core.statement.StatementContext;
+
+import br.cefetmg.seliganosamba.model.Banda;
+
+public class BandaMapper implements RowMapper<Banda> {
+
+    @Override
+    public Banda map(ResultSet rs, StatementContext ctx) throws SQLException {
+        return specialize(rs, ctx).map(rs, ctx);
+    }
+
+    @Override
+    public RowMapper<Banda> specialize(ResultSet rs, StatementContext ctx) throws SQLException {
+        Colunas colunas = new Colunas(rs, ctx);
+        Colunas.Coluna<Long> idBanda = colunas.get("idBanda", Long.class);
+        Colunas.Coluna<String> slug = colunas.get("slug", String.class);
+        Colunas.Coluna<String> nome = colunas.get("nome", String.class);
+
+        return (linha, contexto) -> {
+            Banda banda = new Banda();
+            idBanda.ler(linha, contexto, banda::setIdBanda);
+            slug.ler(linha, contexto, banda::setSlug);
+            nome.ler(linha, contexto, banda::setNome);
+            return banda;
+        };
+    }
+}
@@ -0,0 +1,56 @@
+package br.cefetmg.seliganosamba.repository.mapper;
+
+import java.lang.annotation.Annotation;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+import java.lang.reflect.Method;
+import java.lang.reflect.Parameter;
+import java.lang.reflect.Type;
+import java.util.Map;
+import java.util.function.Function;
+
+import org.jdbi.v3.core.argument.NamedArgumentFinder;
+import org.jdbi.v3.sqlobject.customizer.SqlStatementCustomizerFactory;
+import org.jdbi.v3.sqlobject.customizer.SqlStatementCustomizingAnnotation;
+import org.jdbi.v3.sqlobject.customizer.SqlStatementParameterCustomizer;
+
+import br.cefetmg.seliganosamba.model.Agendamento;
+import br.cefetmg.seliganosamba.model.Contrato;
+import br.cefetmg.seliganosamba.model.Ensaio;
+import br.cefetmg.seliganosamba.model.Equipamento;
+import br.cefetmg.seliganosamba.model.Usuario;
+
+// Equivalente ao @BindBean para os modelos: os binders explícitos de cada *Mapper são consultados
+// só pelos nomes usados no SQL, com o tipo declarado de cada propriedade e sem reflexão
+@Retention(RetentionPolicy.RUNTIME)
+@Target(ElementType.PARAMETER)
+@SqlStatementCustomizingAnnotation(BindModelo.Factory.class)
+public @interface BindModelo {
+
+    class Factory implements SqlStatementCustomizerFactory {
+
+        private static final Map<Class<?>, Function<Object, NamedArgumentFinder>> BINDERS = Map.of(
+                Agendamento.class, modelo -> AgendamentoMapper.argumentos((Agendamento) modelo),
+                Contrato.class, modelo -> ContratoMapper.argumentos((Contrato) modelo),
+                Ensaio.class, modelo -> EnsaioMapper.argumentos((Ensaio) modelo),
+                Equipamento.class, modelo -> EquipamentoMapper.argumentos((Equipamento) modelo),
+                Usuario.class, modelo -> UsuarioMapper.argumentos((Usuario) modelo));
+
+        @Override
+        public SqlStatementParameterCustomizer createForParameter(Annotation annotation, Class<?> sqlObjectType,
+                                                                  Method method, Parameter param, int index, Type paramType) {
+            Function<Object, NamedArgumentFinder> binder = BINDERS.get(param.getType());
+            if (binder == null) {
+                throw new IllegalArgumentException("@BindModelo não suporta " + param.getType().getName());
+            }
+            return (stmt, modelo) -> {
+                if (modelo == null) {
+                    throw new IllegalArgumentException("Modelo nulo em " + method.getName());
+                }
+                stmt.bindNamedArgumentFinder(binder.apply(modelo));
+            };
+        }
+    }
+}
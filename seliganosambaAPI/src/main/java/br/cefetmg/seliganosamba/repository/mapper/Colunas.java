@@ -0,0 +1,71 @@
+package br.cefetmg.seliganosamba.repository.mapper;
+
+import java.sql.ResultSet;
+import java.sql.ResultSetMetaData;
+import java.sql.SQLException;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.function.Consumer;
+
+import org.jdbi.v3.core.mapper.ColumnMapper;
+import org.jdbi.v3.core.statement.StatementContext;
+
+/**
+ * Resolve uma vez por ResultSet o índice de cada coluna e o ColumnMapper do JDBI
+ * para o tipo da propriedade. Com isso a leitura de cada linha é só por índice,
+ * sem a introspecção de bean do @RegisterBeanMapper, mas com as mesmas
+ * conversões (nulos, char, java.time).
+ */
+final class Colunas {
+
+    private final Map<String, Integer> indices = new HashMap<>();
+    private final StatementContext ctx;
+
+    Colunas(ResultSet rs, StatementContext ctx) throws SQLException {
+        this.ctx = ctx;
+        ResultSetMetaData metaData = rs.getMetaData();
+        for (int i = metaData.getColumnCount(); i >= 1; i--) {
+            // Mesmo critério do BeanMapper: ignora caixa e "_"; na repetição vale a primeira coluna
+            indices.put(normalizar(metaData.getColumnLabel(i)), i);
+        }
+    }
+
+    <T> Coluna<T> get(String propriedade, Class<T> tipo) {
+        Integer indice = indices.get(normalizar(propriedade));
+        if (indice == null) {
+            return Coluna.ausente();
+        }
+        ColumnMapper<T> mapper = ctx.findColumnMapperFor(tipo)
+                .orElseThrow(() -> new IllegalStateException("Sem ColumnMapper para " + tipo));
+        return new Coluna<>(indice, mapper);
+    }
+
+    private static String normalizar(String nome) {
+        return nome.replace("_", "").toLowerCase();
+    }
+
+    static final class Coluna<T> {
+
+        private static final Coluna<?> AUSENTE = new Coluna<>(-1, null);
+
+        private final int indice;
+        private final ColumnMapper<T> mapper;
+
+        private Coluna(int indice, ColumnMapper<T> mapper) {
+            this.indice = indice;
+            this.mapper = mapper;
+        }
+
+        @SuppressWarnings("unchecked")
+        static <T> Coluna<T> ausente() {
+            return (Coluna<T>) AUSENTE;
+        }
+
+        // Coluna fora do SELECT deixa a propriedade como está, igual ao BeanMapper
+        void ler(ResultSet rs, StatementContext ctx, Consumer<T> setter) throws SQLException {
+            if (indice > 0) {
+                setter.accept(mapper.map(rs, indice, ctx));
+            }
+        }
+    }
+}
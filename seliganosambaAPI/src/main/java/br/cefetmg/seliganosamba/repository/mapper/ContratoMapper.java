@@ -0,0 +1,62 @@
+package br.cefetmg.seliganosamba.repository.mapper;
+
+import java.math.BigDecimal;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+import org.jdbi.v3.core.argument.Argument;
+import org.jdbi.v3.core.argument.NamedArgumentFinder;
+import org.jdbi.v3.core.mapper.RowMapper;
+import org.jdbi.v3.core.statement.StatementContext;
+
+import br.cefetmg.seliganosamba.model.Contrato;
+
+public class ContratoMapper implements RowMapper<Contrato> {
+
+    @Override
+    public Contrato map(ResultSet rs, StatementContext ctx) throws SQLException {
+        return specialize(rs, ctx).map(rs, ctx);
+    }
+
+    @Override
+    public RowMapper<Contrato> specialize(ResultSet rs, StatementContext ctx) throws SQLException {
+        Colunas colunas = new Colunas(rs, ctx);
+        Colunas.Coluna<Long> idContrato = colunas.get("idContrato", Long.class);
+        Colunas.Coluna<Long> idAgendamento = colunas.get("idAgendamento", Long.class);
+        Colunas.Coluna<String> pdf = colunas.get("pdf", String.class);
+        Colunas.Coluna<BigDecimal> valor = colunas.get("valor", BigDecimal.class);
+        Colunas.Coluna<Boolean> assinaturaProdutor = colunas.get("assinaturaProdutor", Boolean.class);
+        Colunas.Coluna<Boolean> assinaturaContratante = colunas.get("assinaturaContratante", Boolean.class);
+        Colunas.Coluna<LocalDateTime> dataCriacao = colunas.get("dataCriacao", LocalDateTime.class);
+        Colunas.Coluna<LocalDateTime> dataAssinatura = colunas.get("dataAssinatura", LocalDateTime.class);
+
+        return (linha, contexto) -> {
+            Contrato contrato = new Contrato();
+            idContrato.ler(linha, contexto, contrato::setIdContrato);
+            idAgendamento.ler(linha, contexto, contrato::setIdAgendamento);
+            pdf.ler(linha, contexto, contrato::setPdf);
+            valor.ler(linha, contexto, contrato::setValor);
+            assinaturaProdutor.ler(linha, contexto, contrato::setAssinaturaProdutor);
+            assinaturaContratante.ler(linha, contexto, contrato::setAssinaturaContratante);
+            dataCriacao.ler(linha, contexto, contrato::setDataCriacao);
+            dataAssinatura.ler(linha, contexto, contrato::setDataAssinatura);
+            return contrato;
+        };
+    }
+
+    public static NamedArgumentFinder argumentos(Contrato contrato) {
+        return (nome, ctx) -> switch (nome) {
+            case "idContrato" -> ctx.findArgumentFor(Long.class, contrato.getIdContrato());
+            case "idAgendamento" -> ctx.findArgumentFor(Long.class, contrato.getIdAgendamento());
+            case "pdf" -> ctx.findArgumentFor(String.class, contrato.getPdf());
+            case "valor" -> ctx.findArgumentFor(BigDecimal.class, contrato.getValor());
+            case "assinaturaProdutor" -> ctx.findArgumentFor(Boolean.class, contrato.getAssinaturaProdutor());
+            case "assinaturaContratante" -> ctx.findArgumentFor(Boolean.class, contrato.getAssinaturaContratante());
+            case "dataCriacao" -> ctx.findArgumentFor(LocalDateTime.class, contrato.getDataCriacao());
+            case "dataAssinatura" -> ctx.findArgumentFor(LocalDateTime.class, contrato.getDataAssinatura());
+            default -> Optional.<Argument>empty();
+        };
+    }
+}
@@ -0,0 +1,49 @@
+package br.cefetmg.seliganosamba.repository.mapper;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.LocalDate;
+import java.util.Optional;
+
+import org.jdbi.v3.core.argument.Argument;
+import org.jdbi.v3.core.argument.NamedArgumentFinder;
+import org.jdbi.v3.core.mapper.RowMapper;
+import org.jdbi.v3.core.statement.StatementContext;
+
+import br.cefetmg.seliganosamba.model.Ensaio;
+
+public class EnsaioMapper implements RowMapper<Ensaio> {
+
+    @Override
+    public Ensaio map(ResultSet rs, StatementContext ctx) throws SQLException {
+        return specialize(rs, ctx).map(rs, ctx);
+    }
+
+    @Override
+    public RowMapper<Ensaio> specialize(ResultSet rs, StatementContext ctx) throws SQLException {
+        Colunas colunas = new Colunas(rs, ctx);
+        Colunas.Coluna<Long> idEnsaio = colunas.get("idEnsaio", Long.class);
+        Colunas.Coluna<LocalDate> dtEnsaio = colunas.get("dtEnsaio", LocalDate.class);
+        Colunas.Coluna<String> horario = colunas.get("horario", String.class);
+        Colunas.Coluna<String> local = colunas.get("local", String.class);
+
+        return (linha, contexto) -> {
+            Ensaio ensaio = new Ensaio();
+            idEnsaio.ler(linha, contexto, ensaio::setIdEnsaio);
+            dtEnsaio.ler(linha, contexto, ensaio::setDtEnsaio);
+            horario.ler(linha, contexto, ensaio::setHorario);
+            local.ler(linha, contexto, ensaio::setLocal);
+            return ensaio;
+        };
+    }
+
+    public static NamedArgumentFinder argumentos(Ensaio ensaio) {
+        return (nome, ctx) -> switch (nome) {
+            case "idEnsaio" -> ctx.findArgumentFor(Long.class, ensaio.getIdEnsaio());
+            case "dtEnsaio" -> ctx.findArgumentFor(LocalDate.class, ensaio.getDtEnsaio());
+            case "horario" -> ctx.findArgumentFor(String.class, ensaio.getHorario());
+            case "local" -> ctx.findArgumentFor(String.class, ensaio.getLocal());
+            default -> Optional.<Argument>empty();
+        };
+    }
+}
@@ -0,0 +1,45 @@
+package br.cefetmg.seliganosamba.repository.mapper;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.Optional;
+
+import org.jdbi.v3.core.argument.Argument;
+import org.jdbi.v3.core.argument.NamedArgumentFinder;
+import org.jdbi.v3.core.mapper.RowMapper;
+import org.jdbi.v3.core.statement.StatementContext;
+
+import br.cefetmg.seliganosamba.model.Equipamento;
+
+public class EquipamentoMapper implements RowMapper<Equipamento> {
+
+    @Override
+    public Equipamento map(ResultSet rs, StatementContext ctx) throws SQLException {
+        return specialize(rs, ctx).map(rs, ctx);
+    }
+
+    @Override
+    public RowMapper<Equipamento> specialize(ResultSet rs, StatementContext ctx) throws SQLException {
+        Colunas colunas = new Colunas(rs, ctx);
+        Colunas.Coluna<Long> idEquipamento = colunas.get("idEquipamento", Long.class);
+        Colunas.Coluna<String> nmEquipamento = colunas.get("nmEquipamento", String.class);
+        Colunas.Coluna<Character> disponivel = colunas.get("disponivel", char.class);
+
+        return (linha, contexto) -> {
+            Equipamento equipamento = new Equipamento();
+            idEquipamento.ler(linha, contexto, equipamento::setIdEquipamento);
+            nmEquipamento.ler(linha, contexto, equipamento::setNmEquipamento);
+            disponivel.ler(linha, contexto, equipamento::setDisponivel);
+            return equipamento;
+        };
+    }
+
+    public static NamedArgumentFinder argumentos(Equipamento equipamento) {
+        return (nome, ctx) -> switch (nome) {
+            case "idEquipamento" -> ctx.findArgumentFor(Long.class, equipamento.getIdEquipamento());
+            case "nmEquipamento" -> ctx.findArgumentFor(String.class, equipamento.getNmEquipamento());
+            case "disponivel" -> ctx.findArgumentFor(char.class, equipamento.getDisponivel());
+            default -> Optional.<Argument>empty();
+        };
+    }
+}
@@ -0,0 +1,65 @@
+package br.cefetmg.seliganosamba.repository.mapper;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+import org.jdbi.v3.core.argument.Argument;
+import org.jdbi.v3.core.argument.NamedArgumentFinder;
+import org.jdbi.v3.core.mapper.RowMapper;
+import org.jdbi.v3.core.statement.StatementContext;
+
+import br.cefetmg.seliganosamba.model.Usuario;
+
+public class UsuarioMapper implements RowMapper<Usuario> {
+
+    @Override
+    public Usuario map(ResultSet rs, StatementContext ctx) throws SQLException {
+        return specialize(rs, ctx).map(rs, ctx);
+    }
+
+    @Override
+    public RowMapper<Usuario> specialize(ResultSet rs, StatementContext ctx) throws SQLException {
+        Colunas colunas = new Colunas(rs, ctx);
+        Colunas.Coluna<Long> idUsuario = colunas.get("idUsuario", Long.class);
+        Colunas.Coluna<String> nome = colunas.get("nome", String.class);
+        Colunas.Coluna<String> email = colunas.get("email", String.class);
+        Colunas.Coluna<String> senha = colunas.get("senha", String.class);
+        Colunas.Coluna<String> funcao = colunas.get("funcao", String.class);
+        Colunas.Coluna<LocalDate> dtNascimento = colunas.get("dtNascimento", LocalDate.class);
+        Colunas.Coluna<String> telefone = colunas.get("telefone", String.class);
+        Colunas.Coluna<LocalDateTime> dataCadastro = colunas.get("dataCadastro", LocalDateTime.class);
+        Colunas.Coluna<Boolean> ativo = colunas.get("ativo", Boolean.class);
+
+        return (linha, contexto) -> {
+            Usuario usuario = new Usuario();
+            idUsuario.ler(linha, contexto, usuario::setIdUsuario);
+            nome.ler(linha, contexto, usuario::setNome);
+            email.ler(linha, contexto, usuario::setEmail);
+            senha.ler(linha, contexto, usuario::setSenha);
+            funcao.ler(linha, contexto, usuario::setFuncao);
+            dtNascimento.ler(linha, contexto, usuario::setDtNascimento);
+            telefone.ler(linha, contexto, usuario::setTelefone);
+            dataCadastro.ler(linha, contexto, usuario::setDataCadastro);
+            ativo.ler(linha, contexto, usuario::setAtivo);
+            return usuario;
+        };
+    }
+
+    public static NamedArgumentFinder argumentos(Usuario usuario) {
+        return (nome, ctx) -> switch (nome) {
+            case "idUsuario" -> ctx.findArgumentFor(Long.class, usuario.getIdUsuario());
+            case "nome" -> ctx.findArgumentFor(String.class, usuario.getNome());
+            case "email" -> ctx.findArgumentFor(String.class, usuario.getEmail());
+            case "senha" -> ctx.findArgumentFor(String.class, usuario.getSenha());
+            case "funcao" -> ctx.findArgumentFor(String.class, usuario.getFuncao());
+            case "dtNascimento" -> ctx.findArgumentFor(LocalDate.class, usuario.getDtNascimento());
+            case "telefone" -> ctx.findArgumentFor(String.class, usuario.getTelefone());
+            case "dataCadastro" -> ctx.findArgumentFor(LocalDateTime.class, usuario.getDataCadastro());
+            case "ativo" -> ctx.findArgumentFor(Boolean.class, usuario.getAtivo());
+            default -> Optional.<Argument>empty();
+        };
+    }
+}
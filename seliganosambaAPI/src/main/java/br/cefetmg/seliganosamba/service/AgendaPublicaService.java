@@ -0,0 +1,154 @@
+package br.cefetmg.seliganosamba.service;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.text.Normalizer;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.zip.GZIPOutputStream;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import br.cefetmg.seliganosamba.banda.BandaContexto;
+import br.cefetmg.seliganosamba.dto.AgendaPublicaItem;
+import br.cefetmg.seliganosamba.repository.AgendamentoRepository;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Mantém a agenda pública (eventos aprovados, públicos e futuros) como um
+ * snapshot imutável já serializado em JSON e em gzip. As leituras não tocam o
+ * banco; escritas em Agendamento pedem uma reconstrução em segundo plano.
+ * Cada banda tem o seu snapshot, reconstruído só quando a agenda dela muda.
+ */
+@Slf4j
+@Service
+public class AgendaPublicaService {
+
+    // Cada codificação é uma representação diferente, com ETag forte própria (RFC 9110, 8.8.3)
+    public record Snapshot(byte[] json, byte[] gzip, String etag, String etagGzip, Instant geradoEm) {
+
+        // A ETag leva a banda e os primeiros 128 bits do SHA-256 do JSON
+        public static Snapshot de(Long banda, byte[] json) throws IOException {
+            String versao = banda + "-" + HexFormat.of().formatHex(sha256(json), 0, 16);
+            return new Snapshot(json, AgendaPublicaService.gzip(json), "\"" + versao + "\"",
+                    "\"" + versao + "-gzip\"", Instant.now());
+        }
+    }
+
+    private final AgendamentoRepository agendamentoRepository;
+    private final BandaService bandaService;
+    private final ObjectMapper objectMapper;
+    private final ScheduledExecutorService executor = Executors.newSingleThreadScheduledExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "agenda-publica");
+        thread.setDaemon(true);
+        return thread;
+    });
+    private final Set<Long> pendentes = ConcurrentHashMap.newKeySet();
+    private final Map<Long, Snapshot> snapshots = new ConcurrentHashMap<>();
+
+    @Value("${agenda.publica.refresh-minutes:10}")
+    private long refreshMinutes;
+
+    public AgendaPublicaService(AgendamentoRepository agendamentoRepository, BandaService bandaService,
+                                ObjectMapper objectMapper) {
+        this.agendamentoRepository = agendamentoRepository;
+        this.bandaService = bandaService;
+        this.objectMapper = objectMapper;
+    }
+
+    @PostConstruct
+    void iniciar() {
+        // A reconstrução periódica também tira da lista os eventos que já passaram
+        executor.scheduleWithFixedDelay(this::atualizarTodas, 0, refreshMinutes, TimeUnit.MINUTES);
+    }
+
+    @PreDestroy
+    void encerrar() {
+        executor.shutdownNow();
+    }
+
+    // Snapshot da banda da requisição; o de uma banda ainda não carregada é montado na hora
+    public Snapshot getSnapshot() {
+        Long banda = BandaContexto.getAtual();
+        Snapshot snapshot = snapshots.get(banda);
+        if (snapshot == null) {
+            atualizar(banda);
+        }
+        return snapshot;
+    }
+
+    // Chamado após escritas em Agendamento; rajadas de escritas geram uma só reconstrução
+    public void atualizar() {
+        atualizar(BandaContexto.getAtual());
+    }
+
+    private void atualizar(Long banda) {
+        if (pendentes.add(banda)) {
+            executor.execute(() -> reconstruir(banda));
+        }
+    }
+
+    private void atualizarTodas() {
+        try {
+            bandaService.listarIds().forEach(this::atualizar);
+        } catch (Exception e) {
+            log.warn("Não foi possível listar as bandas: {}", e.getMessage());
+        }
+    }
+
+    private void reconstruir(Long banda) {
+        pendentes.remove(banda);
+        try {
+            List<AgendaPublicaItem> eventos = BandaContexto.executar(banda,
+                    () -> agendamentoRepository.findAgendaPublica(LocalDate.now())).stream()
+                    .filter(evento -> isPublico(evento.tipoEvento()))
+                    .toList();
+            snapshots.put(banda, Snapshot.de(banda, objectMapper.writeValueAsBytes(eventos)));
+        } catch (Exception e) {
+            log.warn("Não foi possível atualizar a agenda pública da banda {}: {}", banda, e.getMessage());
+        }
+    }
+
+    // Mesma regra usada pelo app em agenda.page.ts
+    static boolean isPublico(String tipoEvento) {
+        if (tipoEvento == null) {
+            return false;
+        }
+        String tipo = Normalizer.normalize(tipoEvento, Normalizer.Form.NFD)
+                .replaceAll("\\p{M}", "")
+                .toUpperCase();
+        return tipo.contains("PUBLICO") && !tipo.contains("PRIVADO");
+    }
+
+    private static byte[] sha256(byte[] json) {
+        try {
+            return MessageDigest.getInstance("SHA-256").digest(json);
+        } catch (NoSuchAlgorithmException e) {
+            // Todo Java tem SHA-256
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static byte[] gzip(byte[] json) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream(json.length / 4 + 64);
+        try (GZIPOutputStream gzip = new GZIPOutputStream(out)) {
+            gzip.write(json);
+        }
+        return out.toByteArray();
+    }
+}
@@ -0,0 +1,103 @@
+package br.cefetmg.seliganosamba.service;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import br.cefetmg.seliganosamba.repository.ArquivoRepository;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Move para AgendamentoArquivo/ContratoArquivo os eventos com data anterior ao
+ * horizonte configurado, junto com seus contratos, em lotes transacionais. As
+ * consultas comuns ficam só com o conjunto quente. As tabelas de arquivo vêm de
+ * db/arquivo.sql, aplicado junto com os demais scripts do banco.
+ */
+@Slf4j
+@Service
+public class ArquivamentoService {
+
+    private final ArquivoRepository arquivoRepository;
+    private final ScheduledExecutorService executor = Executors.newSingleThreadScheduledExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "arquivamento");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    @Value("${arquivamento.enabled:true}")
+    private boolean enabled;
+
+    @Value("${arquivamento.horizonte-dias:365}")
+    private int horizonteDias;
+
+    @Value("${arquivamento.lote:500}")
+    private int lote;
+
+    @Value("${arquivamento.intervalo-horas:24}")
+    private long intervaloHoras;
+
+    // Dia seguinte ao evento mais recente do arquivo; enquanto não é lido, toda consulta inclui o arquivo
+    private volatile LocalDate limiteArquivado = LocalDate.MAX;
+
+    public ArquivamentoService(ArquivoRepository arquivoRepository) {
+        this.arquivoRepository = arquivoRepository;
+    }
+
+    @PostConstruct
+    void iniciar() {
+        // Lido mesmo com o arquivamento desligado: o arquivo pode ter linhas de execuções anteriores
+        executor.execute(this::atualizarLimite);
+        if (enabled) {
+            executor.scheduleWithFixedDelay(this::arquivar, 1, intervaloHoras * 60, TimeUnit.MINUTES);
+        }
+    }
+
+    @PreDestroy
+    void encerrar() {
+        executor.shutdownNow();
+    }
+
+    // Datas anteriores a este limite podem estar nas tabelas de arquivo. Vem do que foi de fato
+    // arquivado, não do horizonte atual, que pode ter mudado desde a última execução
+    public LocalDate getLimite() {
+        return limiteArquivado;
+    }
+
+    void atualizarLimite() {
+        try {
+            LocalDate ultima = arquivoRepository.findUltimaDataArquivada();
+            limiteArquivado = ultima == null ? LocalDate.MIN : ultima.plusDays(1);
+        } catch (Exception e) {
+            log.warn("Não foi possível ler a data mais recente do arquivo: {}", e.getMessage());
+        }
+    }
+
+    void arquivar() {
+        try {
+            LocalDate limite = LocalDate.now().minusDays(horizonteDias);
+            int total = 0;
+            List<Long> ids;
+            do {
+                ids = arquivoRepository.findIdsParaArquivar(limite, lote);
+                if (!ids.isEmpty()) {
+                    total += arquivoRepository.arquivarLote(ids);
+                }
+            } while (ids.size() == lote && !Thread.currentThread().isInterrupted());
+
+            if (total > 0) {
+                log.info("Arquivados {} agendamentos anteriores a {}", total, limite);
+            }
+        } catch (Exception e) {
+            log.warn("Não foi possível arquivar os eventos antigos: {}", e.getMessage());
+        } finally {
+            atualizarLimite();
+        }
+    }
+}
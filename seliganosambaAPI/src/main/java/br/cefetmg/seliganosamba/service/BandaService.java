@@ -0,0 +1,72 @@
+package br.cefetmg.seliganosamba.service;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import br.cefetmg.seliganosamba.model.Banda;
+import br.cefetmg.seliganosamba.repository.BandaRepository;
+
+/**
+ * Resolve o slug da banda para o idBanda a partir da lista de bandas em memória.
+ * Um slug desconhecido só recarrega a lista do banco uma vez por intervalo, seja
+ * qual for o slug: valores aleatórios em X-Banda não viram uma consulta por
+ * requisição antes do limite de taxa.
+ */
+@Service
+public class BandaService {
+
+    private final BandaRepository bandaRepository;
+    private volatile Map<String, Long> porSlug = Map.of();
+    private long tentativaEm;
+    private boolean tentou;
+
+    // Banda das requisições sem X-Banda, para o app e as instalações de uma banda só
+    @Value("${banda.padrao:seliganosamba}")
+    private String padrao;
+
+    // Também é o tempo máximo até uma banda recém-cadastrada ser reconhecida
+    @Value("${banda.recarga-ms:30000}")
+    private long recargaMs;
+
+    public BandaService(BandaRepository bandaRepository) {
+        this.bandaRepository = bandaRepository;
+    }
+
+    public Optional<Long> resolver(String slug) {
+        String chave = slug == null || slug.isBlank() ? padrao : slug.trim().toLowerCase();
+        Long id = porSlug.get(chave);
+        if (id == null) {
+            recarregarSeVencida();
+            id = porSlug.get(chave);
+        }
+        return Optional.ofNullable(id);
+    }
+
+    // Para as tarefas em segundo plano que percorrem todas as bandas
+    public List<Long> listarIds() {
+        return carregar().stream().map(Banda::getIdBanda).toList();
+    }
+
+    // Conta a partir da tentativa, não do sucesso: com o banco fora do ar também fica uma consulta por intervalo
+    private synchronized void recarregarSeVencida() {
+        long agora = System.nanoTime();
+        if (tentou && agora - tentativaEm < TimeUnit.MILLISECONDS.toNanos(recargaMs)) {
+            return;
+        }
+        tentou = true;
+        tentativaEm = agora;
+        carregar();
+    }
+
+    private synchronized List<Banda> carregar() {
+        List<Banda> bandas = bandaRepository.findAll();
+        porSlug = bandas.stream().collect(Collectors.toUnmodifiableMap(Banda::getSlug, Banda::getIdBanda));
+        return bandas;
+    }
+}
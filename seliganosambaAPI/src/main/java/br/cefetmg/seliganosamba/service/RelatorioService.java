@@ -0,0 +1,332 @@
+package br.cefetmg.seliganosamba.service;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import br.cefetmg.seliganosamba.banda.BandaContexto;
+import br.cefetmg.seliganosamba.dto.RelatorioLinha;
+import br.cefetmg.seliganosamba.model.Agendamento;
+import br.cefetmg.seliganosamba.model.Contrato;
+import br.cefetmg.seliganosamba.repository.AgendamentoRepository;
+import br.cefetmg.seliganosamba.repository.ArquivoRepository;
+import br.cefetmg.seliganosamba.repository.ContratoRepository;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Agregados financeiros em memória por mês do evento, tipo de evento e cidade:
+ * quantidade, soma, mínimo e máximo de Agendamento.orcamento e Contrato.valor,
+ * além da taxa de aprovação. São carregados do histórico na inicialização e
+ * mantidos a cada escrita, então a consulta não depende do volume de dados.
+ * Cada banda tem a sua partição de agregados, carregada do histórico na
+ * primeira vez que a banda aparece (também as cadastradas depois da inicialização).
+ */
+@Slf4j
+@Service
+public class RelatorioService {
+
+    public enum Dimensao {
+        MES(evento -> evento.mes),
+        TIPO_EVENTO(evento -> evento.tipo),
+        CIDADE(evento -> evento.cidade);
+
+        private final Function<Evento, String> chave;
+
+        Dimensao(Function<Evento, String> chave) {
+            this.chave = chave;
+        }
+    }
+
+    private record Evento(String mes, String tipo, String cidade, BigDecimal orcamento, boolean aprovado) {
+    }
+
+    private record Receita(Long idAgendamento, BigDecimal valor) {
+    }
+
+    private static final Evento SEM_AGENDAMENTO = new Evento("sem agendamento", "sem agendamento",
+            "sem agendamento", null, false);
+
+    private final AgendamentoRepository agendamentoRepository;
+    private final ContratoRepository contratoRepository;
+    private final ArquivoRepository arquivoRepository;
+    private final BandaService bandaService;
+    private final ScheduledExecutorService executor = Executors.newSingleThreadScheduledExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "relatorio");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    private final Map<Long, Particao> particoes = new HashMap<>();
+
+    // Espera antes de repetir uma carga de histórico que falhou, dobrando a cada falha até o máximo
+    @Value("${relatorio.retentativa-inicial-ms:1000}")
+    private long retentativaInicialMs;
+
+    @Value("${relatorio.retentativa-maxima-ms:300000}")
+    private long retentativaMaximaMs;
+
+    public RelatorioService(AgendamentoRepository agendamentoRepository, ContratoRepository contratoRepository,
+                            ArquivoRepository arquivoRepository, BandaService bandaService) {
+        this.agendamentoRepository = agendamentoRepository;
+        this.contratoRepository = contratoRepository;
+        this.arquivoRepository = arquivoRepository;
+        this.bandaService = bandaService;
+    }
+
+    @PostConstruct
+    void iniciar() {
+        executor.execute(this::carregarBandas);
+    }
+
+    @PreDestroy
+    void encerrar() {
+        executor.shutdownNow();
+    }
+
+    // Vazio enquanto o histórico da banda não terminou de carregar: os agregados ainda estariam incompletos
+    public synchronized Optional<List<RelatorioLinha>> consultar(Dimensao dimensao) {
+        Particao particao = particao(BandaContexto.getAtual());
+        if (!particao.carregada) {
+            return Optional.empty();
+        }
+        List<RelatorioLinha> linhas = new ArrayList<>();
+        particao.agregados.get(dimensao).forEach((chave, agregado) -> linhas.add(agregado.toLinha(chave)));
+        return Optional.of(linhas);
+    }
+
+    // As atualizações passam por uma única thread para manter a ordem das escritas; a banda é a da requisição
+    public void agendamentoAlterado(Long idAgendamento) {
+        Long banda = BandaContexto.getAtual();
+        executor.execute(() -> aplicarAgendamento(banda, idAgendamento,
+                BandaContexto.executar(banda, () -> agendamentoRepository.findById(idAgendamento))));
+    }
+
+    public void agendamentoRemovido(Long idAgendamento) {
+        Long banda = BandaContexto.getAtual();
+        executor.execute(() -> aplicarAgendamento(banda, idAgendamento, null));
+    }
+
+    public void contratoAlterado(Long idContrato) {
+        Long banda = BandaContexto.getAtual();
+        executor.execute(() -> aplicarContrato(banda, idContrato,
+                BandaContexto.executar(banda, () -> contratoRepository.findById(idContrato))));
+    }
+
+    public void contratoRemovido(Long idContrato) {
+        Long banda = BandaContexto.getAtual();
+        executor.execute(() -> aplicarContrato(banda, idContrato, null));
+    }
+
+    // Espera as atualizações já enfileiradas e as cargas que elas dispararam (usado nos testes)
+    void aguardar() throws Exception {
+        executor.submit(() -> { }).get();
+        executor.submit(() -> { }).get();
+    }
+
+    // Adianta a carga das bandas já cadastradas; as demais carregam quando aparecerem
+    private void carregarBandas() {
+        try {
+            bandaService.listarIds().forEach(this::particao);
+        } catch (Exception e) {
+            log.warn("Não foi possível listar as bandas do relatório: {}", e.getMessage());
+        }
+    }
+
+    // A partição é criada na primeira consulta ou escrita da banda, já com a carga do histórico enfileirada
+    private synchronized Particao particao(Long banda) {
+        Particao particao = particoes.get(banda);
+        if (particao == null) {
+            particao = new Particao();
+            particoes.put(banda, particao);
+            executor.execute(() -> carregarHistorico(banda, retentativaInicialMs));
+        }
+        return particao;
+    }
+
+    // Tudo é lido antes de aplicar, então uma falha não deixa a partição pela metade
+    private void carregarHistorico(Long banda, long esperaMs) {
+        try {
+            List<Agendamento> agendamentos = new ArrayList<>();
+            List<Contrato> contratos = new ArrayList<>();
+            BandaContexto.executar(banda, () -> {
+                agendamentos.addAll(agendamentoRepository.findAll());
+                contratos.addAll(contratoRepository.findAll());
+                // O histórico arquivado também entra nos agregados
+                agendamentos.addAll(arquivoRepository.findAgendamentos());
+                contratos.addAll(arquivoRepository.findContratos());
+            });
+            synchronized (this) {
+                agendamentos.forEach(agendamento -> aplicarAgendamento(banda, agendamento.getIdAgendamento(), agendamento));
+                contratos.forEach(contrato -> aplicarContrato(banda, contrato.getIdContrato(), contrato));
+                particoes.get(banda).carregada = true;
+            }
+            log.info("Relatório da banda {} carregado com {} agendamentos e {} contratos", banda,
+                    agendamentos.size(), contratos.size());
+        } catch (Exception e) {
+            log.warn("Não foi possível carregar o histórico do relatório da banda {}, nova tentativa em {} ms: {}",
+                    banda, esperaMs, e.getMessage());
+            long proxima = Math.min(esperaMs * 2, retentativaMaximaMs);
+            executor.schedule(() -> carregarHistorico(banda, proxima), esperaMs, TimeUnit.MILLISECONDS);
+        }
+    }
+
+    private synchronized void aplicarAgendamento(Long banda, Long idAgendamento, Agendamento agendamento) {
+        particao(banda).aplicarAgendamento(idAgendamento, agendamento);
+    }
+
+    private synchronized void aplicarContrato(Long banda, Long idContrato, Contrato contrato) {
+        particao(banda).aplicarContrato(idContrato, contrato);
+    }
+
+    private static class Particao {
+        // Última contribuição conhecida de cada registro, para desfazer em updates e deletes
+        private final Map<Long, Evento> eventos = new HashMap<>();
+        private final Map<Long, Receita> receitas = new HashMap<>();
+        private final Map<Long, Set<Long>> contratosPorAgendamento = new HashMap<>();
+        private final Map<Dimensao, Map<String, Agregado>> agregados = new EnumMap<>(Dimensao.class);
+        private boolean carregada;
+
+        Particao() {
+            for (Dimensao dimensao : Dimensao.values()) {
+                agregados.put(dimensao, new TreeMap<>());
+            }
+        }
+
+        void aplicarAgendamento(Long idAgendamento, Agendamento agendamento) {
+            Set<Long> contratos = contratosPorAgendamento.getOrDefault(idAgendamento, Set.of());
+            // Os contratos ficam nos baldes do agendamento, então saem e voltam junto com ele
+            contratos.forEach(idContrato -> somarReceita(receitas.get(idContrato), -1));
+
+            Evento anterior = eventos.remove(idAgendamento);
+            if (anterior != null) {
+                somarEvento(anterior, -1);
+            }
+            if (agendamento != null) {
+                Evento evento = toEvento(agendamento);
+                eventos.put(idAgendamento, evento);
+                somarEvento(evento, 1);
+            }
+
+            contratos.forEach(idContrato -> somarReceita(receitas.get(idContrato), 1));
+        }
+
+        void aplicarContrato(Long idContrato, Contrato contrato) {
+            Receita anterior = receitas.remove(idContrato);
+            if (anterior != null) {
+                somarReceita(anterior, -1);
+                contratosPorAgendamento.computeIfPresent(anterior.idAgendamento(),
+                        (id, ids) -> ids.remove(idContrato) && ids.isEmpty() ? null : ids);
+            }
+            if (contrato != null) {
+                Receita receita = new Receita(contrato.getIdAgendamento(), contrato.getValor());
+                receitas.put(idContrato, receita);
+                contratosPorAgendamento.computeIfAbsent(receita.idAgendamento(), id -> new HashSet<>()).add(idContrato);
+                somarReceita(receita, 1);
+            }
+        }
+
+        private void somarEvento(Evento evento, int sinal) {
+            for (Dimensao dimensao : Dimensao.values()) {
+                Map<String, Agregado> porChave = agregados.get(dimensao);
+                String chave = dimensao.chave.apply(evento);
+                porChave.computeIfAbsent(chave, k -> new Agregado()).somarOrcamento(evento.orcamento, evento.aprovado, sinal);
+                porChave.computeIfPresent(chave, (k, agregado) -> agregado.isVazio() ? null : agregado);
+            }
+        }
+
+        private void somarReceita(Receita receita, int sinal) {
+            Evento evento = eventos.getOrDefault(receita.idAgendamento(), SEM_AGENDAMENTO);
+            for (Dimensao dimensao : Dimensao.values()) {
+                Map<String, Agregado> porChave = agregados.get(dimensao);
+                String chave = dimensao.chave.apply(evento);
+                porChave.computeIfAbsent(chave, k -> new Agregado()).somarReceita(receita.valor(), sinal);
+                porChave.computeIfPresent(chave, (k, agregado) -> agregado.isVazio() ? null : agregado);
+            }
+        }
+    }
+
+    private static Evento toEvento(Agendamento agendamento) {
+        return new Evento(
+                agendamento.getDataEvento() != null ? agendamento.getDataEvento().toString().substring(0, 7) : "sem data",
+                texto(agendamento.getTipoEvento()),
+                texto(agendamento.getCidade()),
+                agendamento.getOrcamento(),
+                Boolean.TRUE.equals(agendamento.getAprovado()));
+    }
+
+    private static String texto(String valor) {
+        return valor == null || valor.isBlank() ? "não informado" : valor.trim();
+    }
+
+    private static class Agregado {
+        private final Soma orcamento = new Soma();
+        private final Soma receita = new Soma();
+        private long agendamentos;
+        private long aprovados;
+
+        private void somarOrcamento(BigDecimal valor, boolean aprovado, int sinal) {
+            agendamentos += sinal;
+            if (aprovado) {
+                aprovados += sinal;
+            }
+            orcamento.somar(valor, sinal);
+        }
+
+        private void somarReceita(BigDecimal valor, int sinal) {
+            receita.somar(valor, sinal);
+        }
+
+        boolean isVazio() {
+            return agendamentos == 0 && receita.quantidade == 0;
+        }
+
+        RelatorioLinha toLinha(String chave) {
+            BigDecimal taxa = agendamentos == 0 ? BigDecimal.ZERO
+                    : BigDecimal.valueOf(aprovados).divide(BigDecimal.valueOf(agendamentos), 4, RoundingMode.HALF_UP);
+            return new RelatorioLinha(chave, agendamentos, aprovados, taxa,
+                    orcamento.total, orcamento.minimo(), orcamento.maximo(),
+                    receita.quantidade, receita.total, receita.minimo(), receita.maximo());
+        }
+    }
+
+    // Soma com mínimo e máximo que suportam remoção: os valores ficam num multiconjunto ordenado
+    private static class Soma {
+        private final TreeMap<BigDecimal, Integer> valores = new TreeMap<>();
+        private BigDecimal total = BigDecimal.ZERO;
+        private long quantidade;
+
+        private void somar(BigDecimal valor, int sinal) {
+            quantidade += sinal;
+            if (valor == null) {
+                return;
+            }
+            total = sinal > 0 ? total.add(valor) : total.subtract(valor);
+            valores.merge(valor, sinal, (a, b) -> a + b == 0 ? null : a + b);
+        }
+
+        BigDecimal minimo() {
+            return valores.isEmpty() ? null : valores.firstKey();
+        }
+
+        BigDecimal maximo() {
+            return valores.isEmpty() ? null : valores.lastKey();
+        }
+    }
+}
@@ -0,0 +1,215 @@
+package br.cefetmg.seliganosamba.service;
+
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import java.util.function.IntSupplier;
+import java.util.function.Supplier;
+
+import org.jdbi.v3.core.Jdbi;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import br.cefetmg.seliganosamba.model.Agendamento;
+import br.cefetmg.seliganosamba.model.Contrato;
+import br.cefetmg.seliganosamba.model.Ensaio;
+import br.cefetmg.seliganosamba.model.Equipamento;
+import br.cefetmg.seliganosamba.model.Usuario;
+import br.cefetmg.seliganosamba.repository.AgendamentoRepository;
+import br.cefetmg.seliganosamba.repository.AlteracaoRepository;
+import br.cefetmg.seliganosamba.repository.AlteracaoRepository.Alteracao;
+import br.cefetmg.seliganosamba.repository.ContratoRepository;
+import br.cefetmg.seliganosamba.repository.EnsaioRepository;
+import br.cefetmg.seliganosamba.repository.EquipamentoRepository;
+import br.cefetmg.seliganosamba.repository.UsuarioRepository;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Sincronização incremental para clientes com cópia local: cada escrita dos
+ * controllers grava uma entrada em Alteracao, e {@link #mudancas} devolve só os
+ * registros alterados e os removidos desde o token do cliente, com custo
+ * proporcional ao número de mudanças e não ao tamanho das tabelas.
+ */
+@Slf4j
+@Service
+public class SincronizacaoService {
+
+    public enum Entidade {
+        USUARIO, AGENDAMENTO, CONTRATO, ENSAIO, EQUIPAMENTO
+    }
+
+    public record Remocao(Entidade entidade, Long id) {
+    }
+
+    // O cliente guarda o token e pede de novo enquanto "mais" for true
+    public record Mudancas(long token, boolean mais, List<Usuario> usuarios, List<Agendamento> agendamentos,
+                           List<Contrato> contratos, List<Ensaio> ensaios, List<Equipamento> equipamentos,
+                           List<Remocao> removidos) {
+    }
+
+    private final Jdbi jdbi;
+    private final AlteracaoRepository alteracaoRepository;
+    private final UsuarioRepository usuarioRepository;
+    private final AgendamentoRepository agendamentoRepository;
+    private final ContratoRepository contratoRepository;
+    private final EnsaioRepository ensaioRepository;
+    private final EquipamentoRepository equipamentoRepository;
+    private final ScheduledExecutorService executor = Executors.newSingleThreadScheduledExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "sincronizacao");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    // Entradas mais novas que isso ainda podem ter ids menores por confirmar no banco, então a página para nelas
+    @Value("${sincronizacao.margem-ms:2000}")
+    private long margemMs;
+
+    @Value("${sincronizacao.limite:500}")
+    private int limite;
+
+    @Value("${sincronizacao.lote-compactacao:1000}")
+    private int loteCompactacao;
+
+    @Value("${sincronizacao.compactacao-horas:6}")
+    private long compactacaoHoras;
+
+    public SincronizacaoService(Jdbi jdbi, AlteracaoRepository alteracaoRepository,
+                                UsuarioRepository usuarioRepository, AgendamentoRepository agendamentoRepository,
+                                ContratoRepository contratoRepository, EnsaioRepository ensaioRepository,
+                                EquipamentoRepository equipamentoRepository) {
+        this.jdbi = jdbi;
+        this.alteracaoRepository = alteracaoRepository;
+        this.usuarioRepository = usuarioRepository;
+        this.agendamentoRepository = agendamentoRepository;
+        this.contratoRepository = contratoRepository;
+        this.ensaioRepository = ensaioRepository;
+        this.equipamentoRepository = equipamentoRepository;
+    }
+
+    @PostConstruct
+    void iniciar() {
+        executor.scheduleWithFixedDelay(this::compactar, compactacaoHoras, compactacaoHoras, TimeUnit.HOURS);
+    }
+
+    @PreDestroy
+    void encerrar() {
+        executor.shutdownNow();
+    }
+
+    // A escrita e a entrada no log vão na mesma transação: um registro alterado sem entrada nunca chegaria aos clientes
+    public Long inserir(Entidade entidade, Supplier<Long> insercao) {
+        return jdbi.inTransaction(handle -> {
+            Long id = insercao.get();
+            alteracaoRepository.insert(entidade.name(), id, false);
+            return id;
+        });
+    }
+
+    public int alterar(Entidade entidade, Long id, IntSupplier escrita) {
+        return registrar(entidade, id, false, escrita);
+    }
+
+    public int remover(Entidade entidade, Long id, IntSupplier escrita) {
+        return registrar(entidade, id, true, escrita);
+    }
+
+    // Os repositórios sob demanda usam o handle aberto na thread, então entram na mesma transação
+    private int registrar(Entidade entidade, Long id, boolean removido, IntSupplier escrita) {
+        return jdbi.inTransaction(handle -> {
+            int qtd = escrita.getAsInt();
+            if (qtd > 0) {
+                alteracaoRepository.insert(entidade.name(), id, removido);
+            }
+            return qtd;
+        });
+    }
+
+    public Mudancas mudancas(Long desde) {
+        if (desde == null) {
+            long token = alteracaoRepository.findToken(margemMs);
+            return new Mudancas(token, false, usuarioRepository.findAllSemSenha(), agendamentoRepository.findAll(),
+                    contratoRepository.findAll(), ensaioRepository.findAll(), equipamentoRepository.findAll(),
+                    List.of());
+        }
+
+        List<Alteracao> pagina = alteracaoRepository.findDesde(desde, margemMs, limite);
+        // O token não pode passar de uma entrada recente: um id menor ainda sem commit seria pulado
+        List<Alteracao> alteracoes = new ArrayList<>();
+        for (Alteracao alteracao : pagina) {
+            if (alteracao.recente()) {
+                break;
+            }
+            alteracoes.add(alteracao);
+        }
+
+        // Vale a última entrada de cada registro
+        Map<Entidade, Map<Long, Boolean>> ultimas = new EnumMap<>(Entidade.class);
+        for (Alteracao alteracao : alteracoes) {
+            ultimas.computeIfAbsent(Entidade.valueOf(alteracao.entidade()), k -> new LinkedHashMap<>())
+                    .put(alteracao.idRegistro(), alteracao.removido());
+        }
+
+        List<Remocao> removidos = new ArrayList<>();
+        long token = alteracoes.isEmpty() ? desde : alteracoes.get(alteracoes.size() - 1).idAlteracao();
+        return new Mudancas(token, alteracoes.size() == limite,
+                buscar(Entidade.USUARIO, ultimas, usuarioRepository::findByIdsSemSenha, Usuario::getIdUsuario, removidos),
+                buscar(Entidade.AGENDAMENTO, ultimas, agendamentoRepository::findByIds,
+                        Agendamento::getIdAgendamento, removidos),
+                buscar(Entidade.CONTRATO, ultimas, contratoRepository::findByIds, Contrato::getIdContrato, removidos),
+                buscar(Entidade.ENSAIO, ultimas, ensaioRepository::findByIds, Ensaio::getIdEnsaio, removidos),
+                buscar(Entidade.EQUIPAMENTO, ultimas, equipamentoRepository::findByIds,
+                        Equipamento::getIdEquipamento, removidos),
+                removidos);
+    }
+
+    private static <T> List<T> buscar(Entidade entidade, Map<Entidade, Map<Long, Boolean>> ultimas,
+                                      Function<List<Long>, List<T>> porIds, Function<T, Long> id,
+                                      List<Remocao> removidos) {
+        Map<Long, Boolean> registros = ultimas.getOrDefault(entidade, Map.of());
+        Set<Long> pendentes = new HashSet<>();
+        registros.forEach((registro, removido) -> {
+            if (removido) {
+                removidos.add(new Remocao(entidade, registro));
+            } else {
+                pendentes.add(registro);
+            }
+        });
+        if (pendentes.isEmpty()) {
+            return List.of();
+        }
+        List<T> encontrados = porIds.apply(List.copyOf(pendentes));
+        encontrados.forEach(registro -> pendentes.remove(id.apply(registro)));
+        // Alterado e depois removido (ou arquivado) sem que a remoção tenha entrado nesta página
+        pendentes.forEach(registro -> removidos.add(new Remocao(entidade, registro)));
+        return encontrados;
+    }
+
+    void compactar() {
+        try {
+            int total = 0;
+            List<Long> ids;
+            do {
+                ids = alteracaoRepository.findSubstituidas(loteCompactacao);
+                if (!ids.isEmpty()) {
+                    total += alteracaoRepository.remover(ids);
+                }
+            } while (ids.size() == loteCompactacao && !Thread.currentThread().isInterrupted());
+
+            if (total > 0) {
+                log.info("Removidas {} entradas substituídas do log de alterações", total);
+            }
+        } catch (Exception e) {
+            log.warn("Não foi possível compactar o log de alterações: {}", e.getMessage());
+        }
+    }
+}
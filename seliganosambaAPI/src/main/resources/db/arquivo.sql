@@ -0,0 +1,6 @@
+-- Tabelas frias do ArquivamentoService (arquivamento.enabled). Rodar depois de db/banda.sql.
+-- As linhas são copiadas com INSERT ... SELECT *, então as colunas precisam estar na mesma ordem
+-- das tabelas quentes; LIKE copia também as chaves e os índices delas, inclusive os por banda.
+
+CREATE TABLE IF NOT EXISTS AgendamentoArquivo LIKE Agendamento;
+CREATE TABLE IF NOT EXISTS ContratoArquivo LIKE Contrato;
@@ -0,0 +1,49 @@
+-- Várias bandas no mesmo banco: cadastro das bandas e idBanda em todas as tabelas.
+-- Os dados existentes ficam com a banda 1 (a banda padrão, banda.padrao=seliganosamba).
+
+CREATE TABLE Banda (
+    idBanda BIGINT AUTO_INCREMENT PRIMARY KEY,
+    slug VARCHAR(60) NOT NULL UNIQUE,
+    nome VARCHAR(120) NOT NULL
+);
+
+INSERT INTO Banda (idBanda, slug, nome) VALUES (1, 'seliganosamba', 'Se Liga no Samba');
+
+ALTER TABLE Usuario ADD COLUMN idBanda BIGINT NOT NULL DEFAULT 1 FIRST,
+    ADD CONSTRAINT fk_usuario_banda FOREIGN KEY (idBanda) REFERENCES Banda (idBanda);
+ALTER TABLE Agendamento ADD COLUMN idBanda BIGINT NOT NULL DEFAULT 1 FIRST,
+    ADD CONSTRAINT fk_agendamento_banda FOREIGN KEY (idBanda) REFERENCES Banda (idBanda);
+ALTER TABLE Contrato ADD COLUMN idBanda BIGINT NOT NULL DEFAULT 1 FIRST,
+    ADD CONSTRAINT fk_contrato_banda FOREIGN KEY (idBanda) REFERENCES Banda (idBanda);
+ALTER TABLE Ensaio ADD COLUMN idBanda BIGINT NOT NULL DEFAULT 1 FIRST,
+    ADD CONSTRAINT fk_ensaio_banda FOREIGN KEY (idBanda) REFERENCES Banda (idBanda);
+ALTER TABLE Equipamento ADD COLUMN idBanda BIGINT NOT NULL DEFAULT 1 FIRST,
+    ADD CONSTRAINT fk_equipamento_banda FOREIGN KEY (idBanda) REFERENCES Banda (idBanda);
+
+-- As tabelas de arquivo copiam as linhas com SELECT *, então precisam da mesma coluna na mesma posição.
+-- O MySQL não tem ALTER TABLE IF EXISTS: a coluna só é incluída se a tabela já existir; as que faltarem
+-- são criadas depois por db/arquivo.sql, a partir das tabelas quentes e já com idBanda.
+SET @sql = IF((SELECT COUNT(*) FROM information_schema.TABLES
+               WHERE TABLE_SCHEMA = DATABASE() AND TABLE_NAME = 'AgendamentoArquivo') > 0,
+    'ALTER TABLE AgendamentoArquivo ADD COLUMN idBanda BIGINT NOT NULL DEFAULT 1 FIRST',
+    'DO 0');
+PREPARE comando FROM @sql;
+EXECUTE comando;
+DEALLOCATE PREPARE comando;
+
+SET @sql = IF((SELECT COUNT(*) FROM information_schema.TABLES
+               WHERE TABLE_SCHEMA = DATABASE() AND TABLE_NAME = 'ContratoArquivo') > 0,
+    'ALTER TABLE ContratoArquivo ADD COLUMN idBanda BIGINT NOT NULL DEFAULT 1 FIRST',
+    'DO 0');
+PREPARE comando FROM @sql;
+EXECUTE comando;
+DEALLOCATE PREPARE comando;
+
+-- Toda consulta filtra por idBanda primeiro
+CREATE INDEX ix_usuario_banda_email ON Usuario (idBanda, email);
+CREATE INDEX ix_agendamento_banda_data ON Agendamento (idBanda, dataEvento);
+CREATE INDEX ix_agendamento_banda_usuario ON Agendamento (idBanda, idUsuario);
+CREATE INDEX ix_agendamento_banda_aprovado ON Agendamento (idBanda, aprovado, dataEvento);
+CREATE INDEX ix_contrato_banda_agendamento ON Contrato (idBanda, idAgendamento);
+CREATE INDEX ix_ensaio_banda ON Ensaio (idBanda, dtEnsaio);
+CREATE INDEX ix_equipamento_banda ON Equipamento (idBanda);
@@ -0,0 +1,16 @@
+-- Log de alterações da sincronização incremental (GET /api/v1/seliganosamba/sincronizacao).
+-- idAlteracao é o token devolvido aos clientes; a compactação apaga as entradas substituídas.
+
+CREATE TABLE Alteracao (
+    idAlteracao BIGINT AUTO_INCREMENT PRIMARY KEY,
+    idBanda BIGINT NOT NULL,
+    entidade VARCHAR(20) NOT NULL,
+    idRegistro BIGINT NOT NULL,
+    removido BOOLEAN NOT NULL DEFAULT FALSE,
+    dataAlteracao DATETIME(3) NOT NULL,
+    CONSTRAINT fk_alteracao_banda FOREIGN KEY (idBanda) REFERENCES Banda (idBanda)
+);
+
+-- Leitura do delta (idAlteracao > token) e busca das entradas substituídas de cada registro
+CREATE INDEX ix_alteracao_banda_id ON Alteracao (idBanda, idAlteracao);
+CREATE INDEX ix_alteracao_banda_registro ON Alteracao (idBanda, entidade, idRegistro, idAlteracao);
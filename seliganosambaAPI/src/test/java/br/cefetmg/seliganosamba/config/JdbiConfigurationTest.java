@@ -0,0 +1,83 @@
+package br.cefetmg.seliganosamba.config;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.concurrent.TimeUnit;
+
+import org.h2.jdbcx.JdbcDataSource;
+import org.jdbi.v3.core.Jdbi;
+import org.jdbi.v3.core.statement.UnableToExecuteStatementException;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import br.cefetmg.seliganosamba.banda.BandaContexto;
+import br.cefetmg.seliganosamba.model.Equipamento;
+import br.cefetmg.seliganosamba.repository.BancoDeTeste;
+import br.cefetmg.seliganosamba.repository.EquipamentoRepository;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+/**
+ * jdbi.statements com o SqlLogger da configuração, sobre o banco de teste.
+ */
+class JdbiConfigurationTest {
+
+	private SimpleMeterRegistry registry;
+	private Jdbi jdbi;
+	private EquipamentoRepository equipamentos;
+	private BandaContexto.Escopo banda;
+
+	@BeforeEach
+	void setUp() {
+		// Cria o esquema; o Jdbi testado abre o mesmo banco em memória pelo DataSource
+		BancoDeTeste.criar("metricas");
+		JdbcDataSource dataSource = new JdbcDataSource();
+		dataSource.setURL("jdbc:h2:mem:metricas;MODE=MySQL;DATABASE_TO_LOWER=TRUE;DB_CLOSE_DELAY=-1");
+		registry = new SimpleMeterRegistry();
+		jdbi = new JdbiConfiguration().jdbi(dataSource, registry);
+		equipamentos = jdbi.onDemand(EquipamentoRepository.class);
+		banda = BandaContexto.abrir(1L);
+	}
+
+	@AfterEach
+	void tearDown() {
+		banda.close();
+		jdbi.useHandle(h -> h.execute("DROP ALL OBJECTS"));
+	}
+
+	@Test
+	void umTimerPorMetodoReaproveitado() {
+		equipamentos.findAll();
+		equipamentos.findAll();
+		equipamentos.findById(1L);
+
+		assertEquals(2, timer("findAll", "success").count());
+		assertEquals(1, timer("findById", "success").count());
+		assertEquals(2, registry.find("jdbi.statements").timers().size());
+	}
+
+	@Test
+	void falhaRegistraErroComDuracao() {
+		// Falha na execução (não no prepare), que é quando o SqlLogger é chamado
+		jdbi.useHandle(h -> h.execute("ALTER TABLE Equipamento ADD CONSTRAINT ck_disponivel CHECK (disponivel IN ('S', 'N'))"));
+
+		assertThrows(UnableToExecuteStatementException.class,
+				() -> equipamentos.insert(new Equipamento(null, "Surdo", 'X')));
+
+		Timer erro = timer("insert", "error");
+		assertEquals(1, erro.count());
+		assertTrue(erro.totalTime(TimeUnit.NANOSECONDS) >= 0);
+		assertTrue(erro.totalTime(TimeUnit.SECONDS) < 10);
+	}
+
+	private Timer timer(String method, String outcome) {
+		return registry.get("jdbi.statements")
+				.tag("repository", "EquipamentoRepository")
+				.tag("method", method)
+				.tag("outcome", outcome)
+				.timer();
+	}
+}
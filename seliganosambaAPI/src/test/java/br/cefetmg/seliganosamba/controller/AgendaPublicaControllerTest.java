@@ -0,0 +1,109 @@
+package br.cefetmg.seliganosamba.controller;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import java.nio.charset.StandardCharsets;
+
+import org.hamcrest.Matchers;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.http.HttpHeaders;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.ResultMatcher;
+
+import br.cefetmg.seliganosamba.banda.BandaFilter;
+import br.cefetmg.seliganosamba.service.AgendaPublicaService;
+
+/**
+ * Negociação de gzip, ETags por codificação, 304 e 503 da agenda pública.
+ */
+@WebMvcTest(AgendaPublicaController.class)
+@AutoConfigureMockMvc(addFilters = false)
+@Import(FiltrosDeTeste.class)
+class AgendaPublicaControllerTest {
+
+	private static final String AGENDA = "/api/v1/seliganosamba/agenda-publica";
+
+	@Autowired
+	private MockMvc mockMvc;
+
+	@MockitoBean
+	private AgendaPublicaService agendaPublicaService;
+
+	private AgendaPublicaService.Snapshot snapshot;
+
+	@BeforeEach
+	void setUp() throws Exception {
+		snapshot = AgendaPublicaService.Snapshot.de(1L,
+				"[{\"nomeEvento\":\"Carnaval\"}]".getBytes(StandardCharsets.UTF_8));
+		when(agendaPublicaService.getSnapshot()).thenReturn(snapshot);
+	}
+
+	@Test
+	void semSnapshotResponde503() throws Exception {
+		when(agendaPublicaService.getSnapshot()).thenReturn(null);
+
+		mockMvc.perform(get(AGENDA))
+				.andExpect(status().isServiceUnavailable())
+				.andExpect(header().string(HttpHeaders.RETRY_AFTER, "5"));
+	}
+
+	@Test
+	void gzipQuandoAceito() throws Exception {
+		byte[] corpo = mockMvc.perform(get(AGENDA).header(HttpHeaders.ACCEPT_ENCODING, "deflate, gzip;q=0.5"))
+				.andExpect(status().isOk())
+				.andExpect(header().string(HttpHeaders.CONTENT_ENCODING, "gzip"))
+				.andExpect(header().string(HttpHeaders.ETAG, snapshot.etagGzip()))
+				.andExpect(varia())
+				.andReturn().getResponse().getContentAsByteArray();
+
+		assertArrayEquals(snapshot.gzip(), corpo);
+	}
+
+	@Test
+	void gzipComQZeroOuAusenteVaiSemCompressao() throws Exception {
+		for (String acceptEncoding : new String[] { "gzip;q=0", "br, *;q=0", "identity" }) {
+			mockMvc.perform(get(AGENDA).header(HttpHeaders.ACCEPT_ENCODING, acceptEncoding))
+					.andExpect(status().isOk())
+					.andExpect(header().doesNotExist(HttpHeaders.CONTENT_ENCODING))
+					.andExpect(header().string(HttpHeaders.ETAG, snapshot.etag()))
+					.andExpect(content().bytes(snapshot.json()));
+		}
+		mockMvc.perform(get(AGENDA).header(HttpHeaders.ACCEPT_ENCODING, "*"))
+				.andExpect(header().string(HttpHeaders.CONTENT_ENCODING, "gzip"));
+	}
+
+	@Test
+	void ifNoneMatchComparaComARepresentacaoCerta() throws Exception {
+		assertNotEquals(snapshot.etag(), snapshot.etagGzip());
+
+		mockMvc.perform(get(AGENDA).header(HttpHeaders.IF_NONE_MATCH, "\"outra\", W/" + snapshot.etag()))
+				.andExpect(status().isNotModified())
+				.andExpect(header().string(HttpHeaders.ETAG, snapshot.etag()))
+				.andExpect(varia());
+		mockMvc.perform(get(AGENDA).header(HttpHeaders.ACCEPT_ENCODING, "gzip")
+						.header(HttpHeaders.IF_NONE_MATCH, snapshot.etagGzip()))
+				.andExpect(status().isNotModified());
+		// A ETag do JSON cru não valida a cópia em gzip
+		mockMvc.perform(get(AGENDA).header(HttpHeaders.ACCEPT_ENCODING, "gzip")
+						.header(HttpHeaders.IF_NONE_MATCH, snapshot.etag()))
+				.andExpect(status().isOk());
+	}
+
+	// O Spring junta os nomes num valor só ("Accept-Encoding, X-Banda"), ao lado dos do CORS
+	private static ResultMatcher varia() {
+		return header().stringValues(HttpHeaders.VARY, Matchers.hasItem(Matchers.allOf(
+				Matchers.containsString(HttpHeaders.ACCEPT_ENCODING), Matchers.containsString(BandaFilter.HEADER))));
+	}
+}
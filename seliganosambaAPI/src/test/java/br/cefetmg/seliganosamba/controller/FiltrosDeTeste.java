@@ -0,0 +1,26 @@
+package br.cefetmg.seliganosamba.controller;
+
+import org.mockito.Mockito;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+
+import br.cefetmg.seliganosamba.service.BandaService;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+/**
+ * Dependências dos filtros (BandaFilter e RateLimitFilter), que o @WebMvcTest cria
+ * mesmo com os filtros desligados no MockMvc.
+ */
+@TestConfiguration
+class FiltrosDeTeste {
+
+	@Bean
+	BandaService bandaService() {
+		return Mockito.mock(BandaService.class);
+	}
+
+	@Bean
+	SimpleMeterRegistry meterRegistry() {
+		return new SimpleMeterRegistry();
+	}
+}
@@ -0,0 +1,107 @@
+package br.cefetmg.seliganosamba.controller;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.web.servlet.MockMvc;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+
+import br.cefetmg.seliganosamba.config.SerializacaoConfiguration;
+import br.cefetmg.seliganosamba.model.Equipamento;
+import br.cefetmg.seliganosamba.repository.EquipamentoRepository;
+import br.cefetmg.seliganosamba.service.SincronizacaoService;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
+/**
+ * Negociação do formato com os conversores de SerializacaoConfiguration: JSON
+ * continua o padrão e CBOR só sai quando o cliente pede.
+ */
+@WebMvcTest(EquipamentoController.class)
+@AutoConfigureMockMvc(addFilters = false)
+@Import({ SerializacaoConfiguration.class, FiltrosDeTeste.class })
+class FormatoRespostaTest {
+
+	private static final String LISTA = "/api/v1/seliganosamba/equipamento";
+
+	@Autowired
+	private MockMvc mockMvc;
+
+	@Autowired
+	private MeterRegistry meterRegistry;
+
+	@MockitoBean
+	private EquipamentoRepository equipamentoRepository;
+
+	@MockitoBean
+	private SincronizacaoService sincronizacaoService;
+
+	@BeforeEach
+	void setUp() {
+		when(equipamentoRepository.findAll()).thenReturn(List.of(new Equipamento(1L, "Surdo", 'S')));
+	}
+
+	@Test
+	void semAcceptRespondeJson() throws Exception {
+		long antes = serializacoes("json", LISTA);
+		mockMvc.perform(get(LISTA))
+				.andExpect(status().isOk())
+				.andExpect(content().contentTypeCompatibleWith(MediaType.APPLICATION_JSON))
+				.andExpect(jsonPath("$[0].nmEquipamento").value("Surdo"));
+
+		mockMvc.perform(get(LISTA).accept(MediaType.ALL))
+				.andExpect(content().contentTypeCompatibleWith(MediaType.APPLICATION_JSON));
+		assertEquals(antes + 2, serializacoes("json", LISTA));
+	}
+
+	@Test
+	void acceptCborRespondeCborLegivelSemExtensoes() throws Exception {
+		long antes = serializacoes("cbor", LISTA);
+		byte[] corpo = mockMvc.perform(get(LISTA).accept(MediaType.APPLICATION_CBOR))
+				.andExpect(status().isOk())
+				.andExpect(content().contentTypeCompatibleWith(MediaType.APPLICATION_CBOR))
+				.andReturn().getResponse().getContentAsByteArray();
+
+		// Um decodificador CBOR sem configuração nenhuma precisa ler a resposta
+		JsonNode lista = new ObjectMapper(new CBORFactory()).readTree(corpo);
+		assertEquals("Surdo", lista.get(0).get("nmEquipamento").asText());
+		assertEquals(antes + 1, serializacoes("cbor", LISTA));
+	}
+
+	@Test
+	void serializacaoSeparaPorRota() throws Exception {
+		when(equipamentoRepository.findById(1L)).thenReturn(new Equipamento(1L, "Surdo", 'S'));
+		long lista = serializacoes("json", LISTA);
+		long porId = serializacoes("json", LISTA + "/{id}");
+
+		mockMvc.perform(get(LISTA)).andExpect(status().isOk());
+		mockMvc.perform(get(LISTA + "/1")).andExpect(status().isOk());
+		mockMvc.perform(get(LISTA + "/1")).andExpect(status().isOk());
+
+		assertEquals(lista + 1, serializacoes("json", LISTA));
+		assertEquals(porId + 2, serializacoes("json", LISTA + "/{id}"));
+	}
+
+	// O contexto (e o registro) é compartilhado entre os testes: as verificações são por diferença
+	private long serializacoes(String formato, String uri) {
+		Timer timer = meterRegistry.find("http.server.serialization").tag("formato", formato).tag("uri", uri).timer();
+		return timer == null ? 0 : timer.count();
+	}
+}
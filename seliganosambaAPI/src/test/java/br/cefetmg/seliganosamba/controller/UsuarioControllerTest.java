@@ -0,0 +1,70 @@
+package br.cefetmg.seliganosamba.controller;
+
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import org.hamcrest.Matchers;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.web.servlet.MockMvc;
+
+import br.cefetmg.seliganosamba.dto.UsuarioResumo;
+import br.cefetmg.seliganosamba.model.Usuario;
+import br.cefetmg.seliganosamba.repository.UsuarioRepository;
+import br.cefetmg.seliganosamba.service.SincronizacaoService;
+
+/**
+ * Listagens de usuário: a padrão sem senha e a visão resumo.
+ */
+@WebMvcTest(UsuarioController.class)
+@AutoConfigureMockMvc(addFilters = false)
+@Import(FiltrosDeTeste.class)
+class UsuarioControllerTest {
+
+	private static final String USUARIOS = "/api/v1/seliganosamba/usuario";
+
+	@Autowired
+	private MockMvc mockMvc;
+
+	@MockitoBean
+	private UsuarioRepository usuarioRepository;
+
+	@MockitoBean
+	private SincronizacaoService sincronizacaoService;
+
+	@Test
+	void listagemPadraoNaoTrazSenha() throws Exception {
+		when(usuarioRepository.findAllSemSenha()).thenReturn(List.of(new Usuario(1L, "Ana", "ana@x.com", null,
+				"CONTRATANTE", LocalDate.of(1990, 5, 1), "3199", null, true)));
+
+		mockMvc.perform(get(USUARIOS))
+				.andExpect(status().isOk())
+				.andExpect(jsonPath("$[0].nome").value("Ana"))
+				.andExpect(jsonPath("$[0].telefone").value("3199"))
+				.andExpect(jsonPath("$[0].senha").value(Matchers.nullValue()));
+		verify(usuarioRepository, never()).findAll();
+	}
+
+	@Test
+	void visaoResumoSoComOsCamposDaListagem() throws Exception {
+		when(usuarioRepository.findAllResumo())
+				.thenReturn(List.of(new UsuarioResumo(1L, "Ana", "ana@x.com", "CONTRATANTE", true)));
+
+		mockMvc.perform(get(USUARIOS).param("view", "resumo"))
+				.andExpect(status().isOk())
+				.andExpect(jsonPath("$[0].email").value("ana@x.com"))
+				.andExpect(jsonPath("$[0].senha").doesNotExist())
+				.andExpect(jsonPath("$[0].telefone").doesNotExist());
+	}
+}
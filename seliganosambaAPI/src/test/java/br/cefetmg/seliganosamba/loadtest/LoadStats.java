@@ -0,0 +1,106 @@
+package br.cefetmg.seliganosamba.loadtest;
+
+import java.util.Arrays;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+// Acumula latências, erros e descartes por cenário e imprime o relatório final
+class LoadStats {
+
+    private final Map<String, Recorder> successes = new ConcurrentHashMap<>();
+    // Erros têm histograma próprio: falhas rápidas (ex. 429, conexão recusada) puxariam os percentis para baixo
+    private final Map<String, Recorder> failures = new ConcurrentHashMap<>();
+    private final Map<String, LongAdder> errors = new ConcurrentHashMap<>();
+    private final Map<String, LongAdder> drops = new ConcurrentHashMap<>();
+
+    void success(String scenario, long latencyNanos) {
+        successes.computeIfAbsent(scenario, k -> new Recorder()).add(latencyNanos);
+    }
+
+    void error(String scenario, String cause, long latencyNanos) {
+        failures.computeIfAbsent(scenario, k -> new Recorder()).add(latencyNanos);
+        errors.computeIfAbsent(scenario + " " + cause, k -> new LongAdder()).increment();
+    }
+
+    // Chegada que o próprio gerador não enviou: não tem latência, só entra na contagem
+    void drop(String scenario) {
+        drops.computeIfAbsent(scenario, k -> new LongAdder()).increment();
+    }
+
+    void print(double elapsedSeconds) {
+        Set<String> scenarios = new TreeSet<>(successes.keySet());
+        scenarios.addAll(failures.keySet());
+        scenarios.addAll(drops.keySet());
+
+        long total = 0;
+        System.out.printf("%n%-22s %8s %8s %8s %9s %9s %9s %9s %9s%n",
+                "cenario", "ok", "erros", "descart", "ok/s", "p50 ms", "p90 ms", "p99 ms", "max ms");
+        for (String scenario : scenarios) {
+            long[] values = sorted(successes.get(scenario));
+            long failed = sorted(failures.get(scenario)).length;
+            LongAdder dropped = drops.get(scenario);
+            total += values.length + failed;
+            System.out.printf("%-22s %8d %8d %8d %9.1f %9.1f %9.1f %9.1f %9.1f%n",
+                    scenario,
+                    values.length,
+                    failed,
+                    dropped == null ? 0 : dropped.sum(),
+                    values.length / elapsedSeconds,
+                    percentile(values, 0.50),
+                    percentile(values, 0.90),
+                    percentile(values, 0.99),
+                    percentile(values, 1.0));
+        }
+        System.out.printf("%ntotal: %d execuções de cenário em %.1f s (%.1f/s)%n", total, elapsedSeconds, total / elapsedSeconds);
+
+        if (!failures.isEmpty()) {
+            System.out.printf("%nlatência dos erros:%n%-22s %8s %9s %9s %9s%n", "cenario", "erros", "p50 ms", "p99 ms", "max ms");
+            new TreeMap<>(failures).forEach((scenario, recorder) -> {
+                long[] values = sorted(recorder);
+                System.out.printf("%-22s %8d %9.1f %9.1f %9.1f%n", scenario, values.length,
+                        percentile(values, 0.50), percentile(values, 0.99), percentile(values, 1.0));
+            });
+        }
+        if (!errors.isEmpty()) {
+            System.out.println("\nerros:");
+            new TreeMap<>(errors).forEach((k, v) -> System.out.printf("  %-60s %d%n", k, v.sum()));
+        }
+    }
+
+    private static long[] sorted(Recorder recorder) {
+        if (recorder == null) {
+            return new long[0];
+        }
+        long[] values = recorder.snapshot();
+        Arrays.sort(values);
+        return values;
+    }
+
+    private static double percentile(long[] sorted, double p) {
+        if (sorted.length == 0) {
+            return 0;
+        }
+        int index = (int) Math.ceil(p * sorted.length) - 1;
+        return sorted[Math.max(index, 0)] / 1_000_000.0;
+    }
+
+    private static class Recorder {
+        private long[] values = new long[1024];
+        private int size;
+
+        synchronized void add(long value) {
+            if (size == values.length) {
+                values = Arrays.copyOf(values, size * 2);
+            }
+            values[size++] = value;
+        }
+
+        synchronized long[] snapshot() {
+            return Arrays.copyOf(values, size);
+        }
+    }
+}
@@ -0,0 +1,320 @@
+package br.cefetmg.seliganosamba.loadtest;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.Supplier;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+/**
+ * Gerador de carga que reproduz o padrão de chamadas do app Ionic
+ * (seliganosambaAPP/src/app/services/api.service.ts) contra uma instância local.
+ *
+ * <p>Uso: {@code mvn -Ploadtest test-compile exec:java -Dexec.args="--rate=200 --duration=60"}
+ *
+ * <ul>
+ *   <li>{@code --url} base da API (padrão http://localhost:9091/api/v1/seliganosamba)</li>
+ *   <li>{@code --rate} chegadas por segundo em laço aberto; 0 usa laço fechado</li>
+ *   <li>{@code --concurrency} usuários virtuais no laço fechado (e tamanho do pool do cliente HTTP)</li>
+ *   <li>{@code --max-in-flight} teto opcional de requisições pendentes no laço aberto; as chegadas
+ *       acima dele contam como descartadas, fora dos percentis (padrão 0, sem teto)</li>
+ *   <li>{@code --duration} segundos de medição</li>
+ *   <li>{@code --seed} quantidade de agendamentos a criar antes do teste</li>
+ *   <li>{@code --mix} pesos dos cenários, ex. {@code agenda-publica=50,assinatura=10}</li>
+ * </ul>
+ *
+ * <p>Rode a API com {@code --ratelimit.enabled=false} para medir a capacidade
+ * real; com o limitador ligado, todo o tráfego sai de um único cliente.
+ */
+public class LoadTest {
+
+    private static final ObjectMapper MAPPER = new ObjectMapper();
+
+    private final HttpClient client;
+    private final String baseUrl;
+    private final LoadStats stats = new LoadStats();
+
+    private final List<Long> usuarios = new ArrayList<>();
+    private final List<Long> contratos = new ArrayList<>();
+
+    LoadTest(String baseUrl, int concurrency) {
+        this.baseUrl = baseUrl;
+        this.client = HttpClient.newBuilder()
+                .connectTimeout(Duration.ofSeconds(5))
+                .executor(Executors.newFixedThreadPool(Math.max(4, concurrency / 4), runnable -> {
+                    Thread thread = new Thread(runnable, "loadtest-http");
+                    thread.setDaemon(true);
+                    return thread;
+                }))
+                .build();
+    }
+
+    public static void main(String[] args) throws Exception {
+        Map<String, String> options = new HashMap<>();
+        for (String arg : args) {
+            String[] parts = arg.replaceFirst("^--", "").split("=", 2);
+            options.put(parts[0], parts.length > 1 ? parts[1] : "true");
+        }
+        String url = options.getOrDefault("url", "http://localhost:9091/api/v1/seliganosamba");
+        double rate = Double.parseDouble(options.getOrDefault("rate", "0"));
+        int concurrency = Integer.parseInt(options.getOrDefault("concurrency", "32"));
+        int maxInFlight = Integer.parseInt(options.getOrDefault("max-in-flight", "0"));
+        int duration = Integer.parseInt(options.getOrDefault("duration", "30"));
+        int seed = Integer.parseInt(options.getOrDefault("seed", "0"));
+
+        LoadTest loadTest = new LoadTest(url, concurrency);
+        if (seed > 0) {
+            loadTest.seed(seed);
+        }
+        loadTest.loadIds();
+
+        Map<String, Supplier<CompletableFuture<Void>>> scenarios = loadTest.scenarios();
+        Map<String, Integer> weights = parseMix(options.getOrDefault("mix",
+                "agenda-publica=45,dashboard-admin=15,dashboard-produtor=10,contratante=10,"
+                        + "solicitar-orcamento=12,assinatura=8"), scenarios);
+
+        System.out.printf("alvo: %s | %s | concorrência %d | %d s | mix %s%n", url,
+                rate > 0 ? "laço aberto " + rate + " req/s" : "laço fechado", concurrency, duration, weights);
+        long start = System.nanoTime();
+        if (rate > 0) {
+            loadTest.runOpenLoop(scenarios, weights, rate, maxInFlight, duration);
+        } else {
+            loadTest.runClosedLoop(scenarios, weights, concurrency, duration);
+        }
+        loadTest.stats.print((System.nanoTime() - start) / 1e9);
+    }
+
+    private static Map<String, Integer> parseMix(String mix, Map<String, Supplier<CompletableFuture<Void>>> scenarios) {
+        Map<String, Integer> weights = new LinkedHashMap<>();
+        for (String item : mix.split(",")) {
+            String[] parts = item.split("=");
+            if (!scenarios.containsKey(parts[0])) {
+                throw new IllegalArgumentException("Cenário desconhecido: " + parts[0] + " " + scenarios.keySet());
+            }
+            weights.put(parts[0], Integer.parseInt(parts[1]));
+        }
+        return weights;
+    }
+
+    private Map<String, Supplier<CompletableFuture<Void>>> scenarios() {
+        Map<String, Supplier<CompletableFuture<Void>>> scenarios = new LinkedHashMap<>();
+        // agenda.page.ts
+        scenarios.put("agenda-publica", () -> get("/agenda-publica"));
+        // dashboard-admin.page.ts: quatro listas em paralelo
+        scenarios.put("dashboard-admin", () -> CompletableFuture.allOf(
+                get("/usuario"), get("/agendamento"), get("/contrato"), get("/equipamento")));
+        // dashboard-produtor.page.ts
+        scenarios.put("dashboard-produtor", () -> CompletableFuture.allOf(get("/agendamento"), get("/contrato")));
+        // dashboard-contratante.page.ts: agendamentos do usuário e um contrato por agendamento
+        scenarios.put("contratante", () -> send(request("/agendamento/usuario/" + pick(usuarios)).GET())
+                .thenCompose(body -> {
+                    List<CompletableFuture<?>> calls = new ArrayList<>();
+                    for (JsonNode agendamento : readTree(body)) {
+                        calls.add(getAllowingNotFound("/contrato/agendamento/" + agendamento.get("idAgendamento").asLong()));
+                    }
+                    return CompletableFuture.allOf(calls.toArray(CompletableFuture[]::new));
+                }));
+        // solicitar-orcamento.page.ts
+        scenarios.put("solicitar-orcamento", () -> send(request("/agendamento")
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString(agendamentoJson(pick(usuarios), false))))
+                .thenApply(body -> null));
+        // contratos.page.ts: PATCH da assinatura de uma das partes
+        scenarios.put("assinatura", () -> send(request("/contrato/" + pick(contratos) + "/assinatura/"
+                + (ThreadLocalRandom.current().nextBoolean() ? "produtor" : "contratante"))
+                .method("PATCH", HttpRequest.BodyPublishers.noBody()))
+                .thenApply(body -> null));
+        return scenarios;
+    }
+
+    private void runOpenLoop(Map<String, Supplier<CompletableFuture<Void>>> scenarios, Map<String, Integer> weights,
+                             double rate, int maxInFlight, int duration) {
+        // Sem teto por padrão: limitar o laço aberto pelo cliente esconderia justamente a fila do servidor
+        Semaphore inFlight = maxInFlight > 0 ? new Semaphore(maxInFlight) : null;
+        long interval = (long) (1e9 / rate);
+        long start = System.nanoTime();
+        long end = start + duration * 1_000_000_000L;
+        List<CompletableFuture<Void>> pending = new ArrayList<>();
+
+        // A latência é medida a partir do instante planejado de chegada, não do envio
+        for (long intended = start; intended < end; intended += interval) {
+            long wait = intended - System.nanoTime();
+            if (wait > 0) {
+                LockSupport.parkNanos(wait);
+            }
+            String name = choose(weights);
+            long scheduled = intended;
+            if (inFlight == null) {
+                pending.add(execute(name, scenarios.get(name), scheduled));
+            } else if (inFlight.tryAcquire()) {
+                pending.add(execute(name, scenarios.get(name), scheduled).whenComplete((v, e) -> inFlight.release()));
+            } else {
+                stats.drop(name);
+            }
+            pending.removeIf(CompletableFuture::isDone);
+        }
+        CompletableFuture.allOf(pending.toArray(CompletableFuture[]::new)).join();
+    }
+
+    private void runClosedLoop(Map<String, Supplier<CompletableFuture<Void>>> scenarios, Map<String, Integer> weights,
+                               int concurrency, int duration) throws InterruptedException {
+        long end = System.nanoTime() + duration * 1_000_000_000L;
+        List<Thread> users = new ArrayList<>();
+        for (int i = 0; i < concurrency; i++) {
+            Thread user = new Thread(() -> {
+                while (System.nanoTime() < end) {
+                    String name = choose(weights);
+                    execute(name, scenarios.get(name), System.nanoTime()).join();
+                }
+            }, "usuario-virtual-" + i);
+            user.start();
+            users.add(user);
+        }
+        for (Thread user : users) {
+            user.join();
+        }
+    }
+
+    private CompletableFuture<Void> execute(String name, Supplier<CompletableFuture<Void>> scenario, long startNanos) {
+        CompletableFuture<Void> call;
+        try {
+            call = scenario.get();
+        } catch (RuntimeException e) {
+            call = CompletableFuture.failedFuture(e);
+        }
+        return call.handle((v, e) -> {
+            long latency = System.nanoTime() - startNanos;
+            if (e == null) {
+                stats.success(name, latency);
+            } else {
+                Throwable cause = e instanceof CompletionException && e.getCause() != null ? e.getCause() : e;
+                stats.error(name, cause instanceof HttpStatusException ? cause.getMessage() : cause.getClass().getSimpleName(), latency);
+            }
+            return null;
+        });
+    }
+
+    private String choose(Map<String, Integer> weights) {
+        int total = weights.values().stream().mapToInt(Integer::intValue).sum();
+        int r = ThreadLocalRandom.current().nextInt(total);
+        for (Map.Entry<String, Integer> entry : weights.entrySet()) {
+            r -= entry.getValue();
+            if (r < 0) {
+                return entry.getKey();
+            }
+        }
+        throw new IllegalStateException();
+    }
+
+    private void seed(int quantidade) {
+        System.out.printf("criando %d agendamentos de teste...%n", quantidade);
+        int totalUsuarios = Math.max(1, quantidade / 5);
+        List<Long> novosUsuarios = new ArrayList<>();
+        for (int i = 0; i < totalUsuarios; i++) {
+            String json = """
+                {"nome":"Carga %1$d","email":"carga%1$d-%2$d@teste.local","senha":"123456","funcao":"contratante",
+                 "dtNascimento":"1990-01-01","telefone":"31999999999","ativo":true}
+                """.formatted(i, System.currentTimeMillis());
+            novosUsuarios.add(readTree(post("/usuario", json)).get("idUsuario").asLong());
+        }
+        for (int i = 0; i < quantidade; i++) {
+            boolean aprovado = i % 3 != 0;
+            JsonNode agendamento = readTree(post("/agendamento", agendamentoJson(novosUsuarios.get(i % novosUsuarios.size()), aprovado)));
+            if (aprovado) {
+                post("/contrato", """
+                    {"idAgendamento":%d,"valor":%s,"assinaturaProdutor":false,"assinaturaContratante":false}
+                    """.formatted(agendamento.get("idAgendamento").asLong(), agendamento.get("orcamento").asText()));
+            }
+        }
+    }
+
+    private void loadIds() {
+        readTree(send(request("/usuario").GET()).join())
+                .forEach(u -> usuarios.add(u.get("idUsuario").asLong()));
+        readTree(send(request("/contrato").GET()).join())
+                .forEach(c -> contratos.add(c.get("idContrato").asLong()));
+        if (usuarios.isEmpty() || contratos.isEmpty()) {
+            throw new IllegalStateException("Banco sem usuários ou contratos; rode com --seed=N");
+        }
+    }
+
+    private static String agendamentoJson(long idUsuario, boolean aprovado) {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        String[] tipos = {"Casamento", "Aniversário", "Formatura", "Corporativo", "Carnaval"};
+        String[] cidades = {"Belo Horizonte", "Contagem", "Betim", "Nova Lima", "Sabará"};
+        return """
+            {"idUsuario":%d,"nomeEvento":"Evento de carga","quantidadeConvidados":%d,"rua":"Rua Teste","numero":"100",
+             "bairro":"Centro","cidade":"%s","estado":"MG","dataEvento":"%s","horario":"20:00:00","sonorizacao":%b,
+             "tipoEvento":"%s","orcamento":%d.00,"aprovado":%b}
+            """.formatted(idUsuario, 50 + random.nextInt(500), cidades[random.nextInt(cidades.length)],
+                LocalDate.now().plusDays(random.nextInt(-365, 365)), random.nextBoolean(),
+                tipos[random.nextInt(tipos.length)], 1500 + random.nextInt(8000), aprovado);
+    }
+
+    private CompletableFuture<Void> get(String path) {
+        return send(request(path).GET()).thenApply(body -> null);
+    }
+
+    private CompletableFuture<Void> getAllowingNotFound(String path) {
+        return client.sendAsync(request(path).GET().build(), HttpResponse.BodyHandlers.discarding())
+                .thenApply(response -> {
+                    if (response.statusCode() >= 400 && response.statusCode() != 404) {
+                        throw new HttpStatusException(response.statusCode());
+                    }
+                    return null;
+                });
+    }
+
+    private String post(String path, String json) {
+        return send(request(path).header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString(json))).join();
+    }
+
+    private CompletableFuture<String> send(HttpRequest.Builder builder) {
+        return client.sendAsync(builder.build(), HttpResponse.BodyHandlers.ofString())
+                .thenApply(response -> {
+                    if (response.statusCode() >= 400) {
+                        throw new HttpStatusException(response.statusCode());
+                    }
+                    return response.body();
+                });
+    }
+
+    private HttpRequest.Builder request(String path) {
+        return HttpRequest.newBuilder(URI.create(baseUrl + path)).timeout(Duration.ofSeconds(30));
+    }
+
+    private static long pick(List<Long> ids) {
+        return ids.get(ThreadLocalRandom.current().nextInt(ids.size()));
+    }
+
+    private static JsonNode readTree(String body) {
+        try {
+            return MAPPER.readTree(body);
+        } catch (Exception e) {
+            throw new IllegalStateException("Resposta inválida: " + body, e);
+        }
+    }
+
+    private static class HttpStatusException extends RuntimeException {
+        HttpStatusException(int status) {
+            super("HTTP " + status);
+        }
+    }
+}
@@ -0,0 +1,120 @@
+package br.cefetmg.seliganosamba.loadtest;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.jdbi.v3.core.Handle;
+import org.jdbi.v3.core.Jdbi;
+import org.jdbi.v3.core.statement.PreparedBatch;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import br.cefetmg.seliganosamba.model.Agendamento;
+import br.cefetmg.seliganosamba.repository.mapper.AgendamentoMapper;
+
+/**
+ * Mapeamento e bind de Agendamento pelo BeanMapper/bindBean do JDBI contra o
+ * AgendamentoMapper explícito, num H2 em memória. O banco é o mesmo nos dois
+ * lados, então a diferença é o custo de reflexão por linha/por statement.
+ *
+ * <p>Uso: {@code mvn -Ploadtest test-compile exec:java -Dexec.mainClass=br.cefetmg.seliganosamba.loadtest.RowMapperBenchmark}
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+public class RowMapperBenchmark {
+
+    private static final String INSERT = """
+        INSERT INTO Agendamento (idUsuario, nomeEvento, quantidadeConvidados, rua, numero, bairro, cidade, estado,
+                                dataEvento, horario, sonorizacao, tipoEvento, orcamento, aprovado, dataCriacao)
+        VALUES (:idUsuario, :nomeEvento, :quantidadeConvidados, :rua, :numero, :bairro, :cidade, :estado,
+                :dataEvento, :horario, :sonorizacao, :tipoEvento, :orcamento, :aprovado, :dataCriacao)
+    """;
+
+    private static final String ECO = """
+        SELECT :idUsuario, :nomeEvento, :quantidadeConvidados, :rua, :numero, :bairro, :cidade, :estado,
+               :dataEvento, :horario, :sonorizacao, :tipoEvento, :orcamento, :aprovado, :dataCriacao
+    """;
+
+    @Param({ "1", "500" })
+    int linhas;
+
+    private Jdbi jdbi;
+    private Handle handle;
+    private Agendamento modelo;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        jdbi = Jdbi.create("jdbc:h2:mem:benchmark;MODE=MySQL;DATABASE_TO_LOWER=TRUE;DB_CLOSE_DELAY=-1");
+        handle = jdbi.open();
+        handle.execute("""
+            CREATE TABLE Agendamento (idAgendamento BIGINT AUTO_INCREMENT PRIMARY KEY, idUsuario BIGINT,
+                nomeEvento VARCHAR(100), quantidadeConvidados INT, rua VARCHAR(100), numero VARCHAR(10),
+                bairro VARCHAR(100), cidade VARCHAR(100), estado VARCHAR(2), dataEvento DATE, horario TIME,
+                sonorizacao BOOLEAN, tipoEvento VARCHAR(50), orcamento DECIMAL(10,2), aprovado BOOLEAN,
+                dataCriacao DATETIME)
+        """);
+        modelo = new Agendamento(null, 1L, "Casamento", 120, "Rua A", "10", "Centro", "Contagem", "MG",
+                LocalDate.of(2025, 3, 1), LocalTime.of(20, 30), true, "Casamento", new BigDecimal("1500.50"),
+                false, LocalDateTime.of(2025, 1, 5, 8, 0));
+        PreparedBatch batch = handle.prepareBatch(INSERT);
+        for (int i = 0; i < linhas; i++) {
+            batch.bindBean(modelo).add();
+        }
+        batch.execute();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        handle.execute("DROP ALL OBJECTS");
+        handle.close();
+    }
+
+    @Benchmark
+    public List<Agendamento> mapToBean() {
+        return handle.createQuery("SELECT * FROM Agendamento").mapToBean(Agendamento.class).list();
+    }
+
+    @Benchmark
+    public List<Agendamento> agendamentoMapper() {
+        return handle.createQuery("SELECT * FROM Agendamento").map(new AgendamentoMapper()).list();
+    }
+
+    // Devolve os parâmetros num SELECT: o bind é resolvido de fato, sem somar o custo do INSERT no H2
+    @Benchmark
+    public Long bindBean() {
+        return handle.createQuery(ECO).bindBean(modelo).mapTo(Long.class).one();
+    }
+
+    @Benchmark
+    public Long bindModelo() {
+        return handle.createQuery(ECO).bindNamedArgumentFinder(AgendamentoMapper.argumentos(modelo))
+                .mapTo(Long.class).one();
+    }
+
+    public static void main(String[] args) throws Exception {
+        // Sem fork: pelo exec:java o classpath de teste não chega a uma JVM filha
+        new Runner(new OptionsBuilder()
+                .include(RowMapperBenchmark.class.getSimpleName())
+                .forks(0)
+                .build()).run();
+    }
+}
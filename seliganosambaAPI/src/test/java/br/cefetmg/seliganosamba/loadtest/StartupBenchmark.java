@@ -0,0 +1,107 @@
+package br.cefetmg.seliganosamba.loadtest;
+
+import java.io.File;
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Mede o tempo até a primeira requisição bem-sucedida com o jar comum e com o
+ * perfil de produção (AOT + AppCDS). Gere os artefatos antes com
+ * {@code mvn -Pproducao package -DskipTests}. O padrão é uma rota real da API,
+ * que só responde 2xx depois do banco, do JDBI e do cache da agenda prontos; a
+ * liveness do actuator responde antes disso e mediria menos do que o cliente vê.
+ *
+ * <ul>
+ *   <li>{@code --url} requisição que precisa responder 2xx (padrão: GET da agenda pública na porta 9091)</li>
+ *   <li>{@code --runs} execuções por variante (padrão 5)</li>
+ * </ul>
+ */
+public class StartupBenchmark {
+
+    public static void main(String[] args) throws Exception {
+        Map<String, String> options = new HashMap<>();
+        for (String arg : args) {
+            String[] parts = arg.replaceFirst("^--", "").split("=", 2);
+            options.put(parts[0], parts.length > 1 ? parts[1] : "true");
+        }
+        String url = options.getOrDefault("url", "http://localhost:9091/api/v1/seliganosamba/agenda-publica");
+        int runs = Integer.parseInt(options.getOrDefault("runs", "5"));
+
+        String java = System.getProperty("java.home") + File.separator + "bin" + File.separator + "java";
+        String jar = "seliganosamba-0.0.1-SNAPSHOT.jar";
+        Path target = Path.of("target");
+        if (!Files.exists(target.resolve("extracted").resolve("application.jsa"))) {
+            throw new IllegalStateException("Arquivo CDS não encontrado; rode mvn -Pproducao package -DskipTests");
+        }
+
+        Map<String, List<String>> variantes = new LinkedHashMap<>();
+        variantes.put("jar comum", List.of(java, "-jar", target.resolve(jar).toString()));
+        variantes.put("AOT + AppCDS", List.of(java,
+                "-XX:SharedArchiveFile=" + target.resolve("extracted").resolve("application.jsa"),
+                "-Dspring.aot.enabled=true",
+                "-jar", target.resolve("extracted").resolve(jar).toString()));
+
+        HttpClient client = HttpClient.newBuilder().connectTimeout(Duration.ofMillis(200)).build();
+        Map<String, long[]> resultados = new LinkedHashMap<>();
+        for (Map.Entry<String, List<String>> variante : variantes.entrySet()) {
+            long[] tempos = new long[runs];
+            for (int i = 0; i < runs; i++) {
+                tempos[i] = medir(variante.getValue(), client, url);
+                System.out.printf("%-14s execução %d: %d ms%n", variante.getKey(), i + 1, tempos[i]);
+            }
+            resultados.put(variante.getKey(), tempos);
+        }
+
+        System.out.printf("%n%-14s %10s %10s %10s%n", "variante", "mín ms", "mediana ms", "máx ms");
+        resultados.forEach((nome, tempos) -> {
+            Arrays.sort(tempos);
+            System.out.printf("%-14s %10d %10d %10d%n", nome, tempos[0], tempos[tempos.length / 2], tempos[tempos.length - 1]);
+        });
+    }
+
+    private static long medir(List<String> comando, HttpClient client, String url) throws Exception {
+        List<String> argumentos = new ArrayList<>(comando);
+        long inicio = System.nanoTime();
+        Process processo = new ProcessBuilder(argumentos)
+                .redirectErrorStream(true)
+                .redirectOutput(ProcessBuilder.Redirect.DISCARD)
+                .start();
+        try {
+            HttpRequest request = HttpRequest.newBuilder(URI.create(url)).timeout(Duration.ofSeconds(2)).build();
+            long limite = inicio + TimeUnit.SECONDS.toNanos(120);
+            while (System.nanoTime() < limite) {
+                if (!processo.isAlive()) {
+                    throw new IllegalStateException("A aplicação terminou antes de responder: " + comando);
+                }
+                try {
+                    HttpResponse<Void> response = client.send(request, HttpResponse.BodyHandlers.discarding());
+                    if (response.statusCode() / 100 == 2) {
+                        return TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - inicio);
+                    }
+                } catch (IOException e) {
+                    // ainda subindo
+                }
+                Thread.sleep(10);
+            }
+            throw new IllegalStateException("Sem resposta 2xx em " + url + " após 120 s");
+        } finally {
+            processo.destroy();
+            if (!processo.waitFor(20, TimeUnit.SECONDS)) {
+                processo.destroyForcibly().waitFor();
+            }
+        }
+    }
+}
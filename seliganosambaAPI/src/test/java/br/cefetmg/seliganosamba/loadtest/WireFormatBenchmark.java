@@ -0,0 +1,174 @@
+package br.cefetmg.seliganosamba.loadtest;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import java.util.zip.GZIPOutputStream;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.springframework.boot.Banner;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.autoconfigure.jackson.JacksonAutoConfiguration;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.http.converter.cbor.MappingJackson2CborHttpMessageConverter;
+import org.springframework.http.converter.json.MappingJackson2HttpMessageConverter;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import br.cefetmg.seliganosamba.config.SerializacaoConfiguration;
+import br.cefetmg.seliganosamba.model.Agendamento;
+import br.cefetmg.seliganosamba.model.Contrato;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+/**
+ * Compara tamanho (cru e com gzip) e tempo de codificação/decodificação de JSON
+ * e CBOR para as listas de Agendamento e Contrato. Os mapeadores são os dos
+ * conversores de SerializacaoConfiguration, montados pelo Spring a partir do
+ * Jackson2ObjectMapperBuilder da aplicação.
+ *
+ * <p>Uso: {@code mvn -Ploadtest test-compile exec:java -Dexec.mainClass=br.cefetmg.seliganosamba.loadtest.WireFormatBenchmark}
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+public class WireFormatBenchmark {
+
+    private static final TypeReference<List<Agendamento>> AGENDAMENTOS = new TypeReference<>() { };
+    private static final TypeReference<List<Contrato>> CONTRATOS = new TypeReference<>() { };
+
+    @Param({ "json", "cbor" })
+    String formato;
+
+    @Param({ "500" })
+    int tamanho;
+
+    private ObjectMapper mapper;
+    private List<Agendamento> agendamentos;
+    private List<Contrato> contratos;
+    private byte[] agendamentosCodificados;
+    private byte[] contratosCodificados;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        mapper = mapeador(formato);
+        agendamentos = agendamentos(tamanho);
+        contratos = contratos(tamanho);
+        agendamentosCodificados = mapper.writeValueAsBytes(agendamentos);
+        contratosCodificados = mapper.writeValueAsBytes(contratos);
+    }
+
+    @Benchmark
+    public byte[] codificaAgendamentos() throws IOException {
+        return mapper.writeValueAsBytes(agendamentos);
+    }
+
+    @Benchmark
+    public List<Agendamento> decodificaAgendamentos() throws IOException {
+        return mapper.readValue(agendamentosCodificados, AGENDAMENTOS);
+    }
+
+    @Benchmark
+    public byte[] codificaContratos() throws IOException {
+        return mapper.writeValueAsBytes(contratos);
+    }
+
+    @Benchmark
+    public List<Contrato> decodificaContratos() throws IOException {
+        return mapper.readValue(contratosCodificados, CONTRATOS);
+    }
+
+    public static void main(String[] args) throws Exception {
+        int tamanho = args.length > 0 ? Integer.parseInt(args[0]) : 500;
+
+        System.out.printf("%-24s %10s %10s%n", "lista (" + tamanho + " itens)", "bytes", "gzip");
+        for (String formato : List.of("json", "cbor")) {
+            ObjectMapper mapper = mapeador(formato);
+            tamanhos("Agendamento " + formato, mapper.writeValueAsBytes(agendamentos(tamanho)));
+            tamanhos("Contrato " + formato, mapper.writeValueAsBytes(contratos(tamanho)));
+        }
+
+        // Sem fork: pelo exec:java o classpath de teste não chega a uma JVM filha
+        new Runner(new OptionsBuilder()
+                .include(WireFormatBenchmark.class.getSimpleName())
+                .param("tamanho", String.valueOf(tamanho))
+                .forks(0)
+                .build()).run();
+    }
+
+    // Sobe só o Jackson da aplicação e a SerializacaoConfiguration, sem web nem banco
+    private static ObjectMapper mapeador(String formato) {
+        try (ConfigurableApplicationContext contexto = new SpringApplicationBuilder(JacksonAutoConfiguration.class,
+                SerializacaoConfiguration.class, SimpleMeterRegistry.class)
+                .web(WebApplicationType.NONE)
+                .bannerMode(Banner.Mode.OFF)
+                .logStartupInfo(false)
+                .run()) {
+            return formato.equals("cbor")
+                    ? contexto.getBean(MappingJackson2CborHttpMessageConverter.class).getObjectMapper()
+                    : contexto.getBean(MappingJackson2HttpMessageConverter.class).getObjectMapper();
+        }
+    }
+
+    private static void tamanhos(String nome, byte[] bytes) throws IOException {
+        System.out.printf("%-24s %10d %10d%n", nome, bytes.length, gzip(bytes));
+    }
+
+    private static int gzip(byte[] bytes) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        try (GZIPOutputStream gzip = new GZIPOutputStream(out)) {
+            gzip.write(bytes);
+        }
+        return out.size();
+    }
+
+    private static List<Agendamento> agendamentos(int tamanho) {
+        Random random = new Random(42);
+        String[] tipos = {"Casamento", "Aniversário", "Formatura", "Corporativo", "Público"};
+        String[] cidades = {"Belo Horizonte", "Contagem", "Betim", "Nova Lima", "Sabará"};
+        List<Agendamento> lista = new ArrayList<>();
+        for (int i = 0; i < tamanho; i++) {
+            lista.add(new Agendamento((long) i, (long) random.nextInt(200), "Evento " + i, 50 + random.nextInt(500),
+                    "Rua das Flores", String.valueOf(random.nextInt(2000)), "Centro", cidades[random.nextInt(cidades.length)],
+                    "MG", LocalDate.of(2025, 1, 1).plusDays(random.nextInt(365)), LocalTime.of(18 + random.nextInt(5), 0),
+                    random.nextBoolean(), tipos[random.nextInt(tipos.length)],
+                    BigDecimal.valueOf(150_000 + random.nextInt(900_000), 2), random.nextBoolean(),
+                    LocalDateTime.of(2024, 12, 1, 10, 0).plusMinutes(random.nextInt(500_000))));
+        }
+        return lista;
+    }
+
+    private static List<Contrato> contratos(int tamanho) {
+        Random random = new Random(7);
+        List<Contrato> lista = new ArrayList<>();
+        for (int i = 0; i < tamanho; i++) {
+            boolean assinado = random.nextBoolean();
+            LocalDateTime criacao = LocalDateTime.of(2024, 12, 1, 10, 0).plusMinutes(random.nextInt(500_000));
+            lista.add(new Contrato((long) i, (long) i, null, BigDecimal.valueOf(150_000 + random.nextInt(900_000), 2),
+                    assinado, assinado || random.nextBoolean(), criacao, assinado ? criacao.plusDays(3) : null));
+        }
+        return lista;
+    }
+}
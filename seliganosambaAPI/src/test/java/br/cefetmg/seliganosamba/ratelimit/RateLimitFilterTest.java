@@ -0,0 +1,101 @@
+package br.cefetmg.seliganosamba.ratelimit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+class RateLimitFilterTest {
+
+	private static final String BASE = "/api/v1/seliganosamba";
+
+	@Test
+	void classificaAsRotasPublicas() {
+		assertEquals(RouteClass.PUBLIC_READ, RouteClass.of(requisicao("GET", "/agendamento", "10.0.0.1")));
+		assertEquals(RouteClass.PUBLIC_READ, RouteClass.of(requisicao("GET", "/agenda-publica", "10.0.0.1")));
+		assertEquals(RouteClass.PUBLIC_WRITE, RouteClass.of(requisicao("POST", "/agendamento", "10.0.0.1")));
+		assertEquals(RouteClass.PUBLIC_WRITE, RouteClass.of(requisicao("POST", "/usuario/", "10.0.0.1")));
+		assertEquals(RouteClass.DEFAULT, RouteClass.of(requisicao("GET", "/agendamento/5", "10.0.0.1")));
+		assertEquals(RouteClass.DEFAULT, RouteClass.of(requisicao("PUT", "/usuario", "10.0.0.1")));
+	}
+
+	@Test
+	void excessoRecebe429ComRetryAfter() throws Exception {
+		RateLimitProperties properties = new RateLimitProperties();
+		properties.limitFor(RouteClass.PUBLIC_WRITE).setPerSecond(0.2);
+		properties.limitFor(RouteClass.PUBLIC_WRITE).setBurst(1);
+		RateLimitFilter filter = new RateLimitFilter(properties, new SimpleMeterRegistry());
+
+		assertEquals(200, executar(filter, requisicao("POST", "/usuario", "10.0.0.1")).getStatus());
+		MockHttpServletResponse rejeitada = executar(filter, requisicao("POST", "/usuario", "10.0.0.1"));
+
+		assertEquals(429, rejeitada.getStatus());
+		assertEquals("5", rejeitada.getHeader("Retry-After"));
+		assertEquals("*", rejeitada.getHeader("Access-Control-Allow-Origin"));
+		// Outra classe de rota e outro cliente têm os próprios baldes
+		assertEquals(200, executar(filter, requisicao("GET", "/agenda-publica", "10.0.0.1")).getStatus());
+		assertEquals(200, executar(filter, requisicao("POST", "/usuario", "10.0.0.2")).getStatus());
+	}
+
+	@Test
+	void clientesAlemDoLimiteDividemUmBalde() throws Exception {
+		RateLimitProperties properties = new RateLimitProperties();
+		properties.setMaxClients(2);
+		properties.limitFor(RouteClass.DEFAULT).setPerSecond(0.1);
+		properties.limitFor(RouteClass.DEFAULT).setBurst(1);
+		RateLimitFilter filter = new RateLimitFilter(properties, new SimpleMeterRegistry());
+
+		assertEquals(200, executar(filter, requisicao("GET", "/contrato", "10.0.0.1")).getStatus());
+		assertEquals(200, executar(filter, requisicao("GET", "/contrato", "10.0.0.2")).getStatus());
+		assertEquals(200, executar(filter, requisicao("GET", "/contrato", "10.0.0.3")).getStatus());
+		for (int i = 4; i < 100; i++) {
+			assertEquals(429, executar(filter, requisicao("GET", "/contrato", "10.0.0." + i)).getStatus());
+		}
+	}
+
+	@Test
+	void forwardedForUsaAEntradaDoProxy() throws Exception {
+		RateLimitProperties properties = new RateLimitProperties();
+		properties.setTrustForwardedFor(true);
+		properties.limitFor(RouteClass.PUBLIC_WRITE).setPerSecond(0.2);
+		properties.limitFor(RouteClass.PUBLIC_WRITE).setBurst(1);
+		SimpleMeterRegistry registry = new SimpleMeterRegistry();
+		RateLimitFilter filter = new RateLimitFilter(properties, registry);
+
+		// O cliente troca a entrada da esquerda a cada requisição; a do proxy continua a mesma
+		for (int i = 0; i < 5; i++) {
+			MockHttpServletRequest request = requisicao("POST", "/usuario", "10.0.0.9");
+			request.addHeader("X-Forwarded-For", "1.2.3." + i + ", 200.1.1.1");
+			assertEquals(i == 0 ? 200 : 429, executar(filter, request).getStatus());
+		}
+		assertEquals(4, registry.get("http.server.throttled").tag("route", "public_write").tag("reason", "rate")
+				.counter().count());
+	}
+
+	@Test
+	void recusaTaxaNaoPositiva() {
+		RateLimitProperties.Limit limit = new RateLimitProperties.Limit();
+
+		assertThrows(IllegalArgumentException.class, () -> limit.setPerSecond(0));
+		assertThrows(IllegalArgumentException.class, () -> limit.setPerSecond(-1));
+		assertThrows(IllegalArgumentException.class, () -> limit.setBurst(0));
+	}
+
+	private static MockHttpServletRequest requisicao(String metodo, String rota, String ip) {
+		MockHttpServletRequest request = new MockHttpServletRequest(metodo, BASE + rota);
+		request.setRemoteAddr(ip);
+		return request;
+	}
+
+	private static MockHttpServletResponse executar(RateLimitFilter filter, MockHttpServletRequest request)
+			throws Exception {
+		MockHttpServletResponse response = new MockHttpServletResponse();
+		filter.doFilter(request, response, new MockFilterChain());
+		return response;
+	}
+}
@@ -0,0 +1,43 @@
+package br.cefetmg.seliganosamba.ratelimit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.Test;
+
+class TokenBucketTest {
+
+	@Test
+	void permiteRajadaEDepoisEsperaOIntervalo() {
+		TokenBucket bucket = new TokenBucket(2, 3, 0);
+
+		assertEquals(0, bucket.tryAcquire(0));
+		assertEquals(0, bucket.tryAcquire(0));
+		assertEquals(0, bucket.tryAcquire(0));
+		assertEquals(500_000_000L, bucket.tryAcquire(0));
+		assertEquals(0, bucket.tryAcquire(500_000_000L));
+	}
+
+	@Test
+	void naoConcedeMaisQueARajadaSobConcorrencia() throws InterruptedException {
+		TokenBucket bucket = new TokenBucket(0.001, 50, 0);
+		AtomicInteger permitidas = new AtomicInteger();
+		ExecutorService executor = Executors.newFixedThreadPool(16);
+		for (int i = 0; i < 1000; i++) {
+			executor.execute(() -> {
+				if (bucket.tryAcquire(0) == 0) {
+					permitidas.incrementAndGet();
+				}
+			});
+		}
+		executor.shutdown();
+		assertTrue(executor.awaitTermination(10, TimeUnit.SECONDS));
+
+		assertEquals(50, permitidas.get());
+	}
+}
@@ -0,0 +1,75 @@
+package br.cefetmg.seliganosamba.repository;
+
+import org.jdbi.v3.core.Jdbi;
+import org.jdbi.v3.sqlobject.SqlObjectPlugin;
+
+import br.cefetmg.seliganosamba.banda.BandaContexto;
+
+/**
+ * H2 em memória no modo MySQL com as tabelas dos modelos e duas bandas (1 e 2),
+ * para os testes que exercitam o SQL dos repositórios.
+ */
+public final class BancoDeTeste {
+
+	private static final String[] ESQUEMA = {
+		"CREATE TABLE Banda (idBanda BIGINT AUTO_INCREMENT PRIMARY KEY, slug VARCHAR(60) NOT NULL UNIQUE, nome VARCHAR(120))",
+		"INSERT INTO Banda (slug, nome) VALUES ('seliganosamba', 'Se Liga no Samba'), ('outra', 'Outra Banda')",
+		"""
+		CREATE TABLE Usuario (idUsuario BIGINT AUTO_INCREMENT PRIMARY KEY, idBanda BIGINT NOT NULL DEFAULT 1,
+			nome VARCHAR(100), email VARCHAR(100), senha VARCHAR(100), funcao VARCHAR(20), dtNascimento DATE,
+			telefone VARCHAR(20), dataCadastro DATETIME, ativo BOOLEAN)
+		""",
+		"""
+		CREATE TABLE Agendamento (idAgendamento BIGINT AUTO_INCREMENT PRIMARY KEY, idBanda BIGINT NOT NULL DEFAULT 1,
+			idUsuario BIGINT, nomeEvento VARCHAR(100), quantidadeConvidados INT, rua VARCHAR(100), numero VARCHAR(10),
+			bairro VARCHAR(100), cidade VARCHAR(100), estado VARCHAR(2), dataEvento DATE, horario TIME,
+			sonorizacao BOOLEAN, tipoEvento VARCHAR(50), orcamento DECIMAL(10,2), aprovado BOOLEAN,
+			dataCriacao DATETIME)
+		""",
+		"""
+		CREATE TABLE Contrato (idContrato BIGINT AUTO_INCREMENT PRIMARY KEY, idBanda BIGINT NOT NULL DEFAULT 1,
+			idAgendamento BIGINT, pdf VARCHAR(255), valor DECIMAL(10,2), assinaturaProdutor BOOLEAN,
+			assinaturaContratante BOOLEAN, dataCriacao DATETIME, dataAssinatura DATETIME)
+		""",
+		"""
+		CREATE TABLE Ensaio (idEnsaio BIGINT AUTO_INCREMENT PRIMARY KEY, idBanda BIGINT NOT NULL DEFAULT 1,
+			dtEnsaio DATE, horario VARCHAR(45), local VARCHAR(200))
+		""",
+		"""
+		CREATE TABLE Equipamento (idEquipamento BIGINT AUTO_INCREMENT PRIMARY KEY, idBanda BIGINT NOT NULL DEFAULT 1,
+			nmEquipamento VARCHAR(100), disponivel CHAR(1))
+		""",
+		"""
+		CREATE TABLE Alteracao (idAlteracao BIGINT AUTO_INCREMENT PRIMARY KEY, idBanda BIGINT NOT NULL,
+			entidade VARCHAR(20), idRegistro BIGINT, removido BOOLEAN, dataAlteracao DATETIME(3))
+		""",
+		// O H2 não tem CREATE TABLE ... LIKE: as tabelas de arquivo repetem as colunas e a chave das quentes
+		"""
+		CREATE TABLE AgendamentoArquivo (idAgendamento BIGINT PRIMARY KEY, idBanda BIGINT NOT NULL DEFAULT 1,
+			idUsuario BIGINT, nomeEvento VARCHAR(100), quantidadeConvidados INT, rua VARCHAR(100), numero VARCHAR(10),
+			bairro VARCHAR(100), cidade VARCHAR(100), estado VARCHAR(2), dataEvento DATE, horario TIME,
+			sonorizacao BOOLEAN, tipoEvento VARCHAR(50), orcamento DECIMAL(10,2), aprovado BOOLEAN,
+			dataCriacao DATETIME)
+		""",
+		"""
+		CREATE TABLE ContratoArquivo (idContrato BIGINT PRIMARY KEY, idBanda BIGINT NOT NULL DEFAULT 1,
+			idAgendamento BIGINT, pdf VARCHAR(255), valor DECIMAL(10,2), assinaturaProdutor BOOLEAN,
+			assinaturaContratante BOOLEAN, dataCriacao DATETIME, dataAssinatura DATETIME)
+		""",
+	};
+
+	public static Jdbi criar(String nome) {
+		Jdbi jdbi = Jdbi.create("jdbc:h2:mem:" + nome + ";MODE=MySQL;DATABASE_TO_LOWER=TRUE;DB_CLOSE_DELAY=-1;LOCK_TIMEOUT=10000")
+				.installPlugin(new SqlObjectPlugin());
+		BandaContexto.instalar(jdbi);
+		jdbi.useHandle(h -> {
+			for (String ddl : ESQUEMA) {
+				h.execute(ddl);
+			}
+		});
+		return jdbi;
+	}
+
+	private BancoDeTeste() {
+	}
+}
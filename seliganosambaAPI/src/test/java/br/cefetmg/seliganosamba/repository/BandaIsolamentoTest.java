@@ -0,0 +1,140 @@
+package br.cefetmg.seliganosamba.repository;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+
+import org.jdbi.v3.core.Jdbi;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import br.cefetmg.seliganosamba.banda.BandaContexto;
+import br.cefetmg.seliganosamba.model.Agendamento;
+import br.cefetmg.seliganosamba.model.Contrato;
+import br.cefetmg.seliganosamba.model.Ensaio;
+import br.cefetmg.seliganosamba.model.Equipamento;
+import br.cefetmg.seliganosamba.model.Usuario;
+
+/**
+ * Cada banda só enxerga e altera as próprias linhas, com os mesmos ids e e-mails
+ * repetidos entre bandas.
+ */
+class BandaIsolamentoTest {
+
+	private static final Long BANDA = 1L;
+	private static final Long OUTRA = 2L;
+
+	private Jdbi jdbi;
+	private UsuarioRepository usuarios;
+	private AgendamentoRepository agendamentos;
+	private ContratoRepository contratos;
+	private EnsaioRepository ensaios;
+	private EquipamentoRepository equipamentos;
+	private ArquivoRepository arquivo;
+
+	@BeforeEach
+	void setUp() {
+		jdbi = BancoDeTeste.criar("isolamento");
+		usuarios = jdbi.onDemand(UsuarioRepository.class);
+		agendamentos = jdbi.onDemand(AgendamentoRepository.class);
+		contratos = jdbi.onDemand(ContratoRepository.class);
+		ensaios = jdbi.onDemand(EnsaioRepository.class);
+		equipamentos = jdbi.onDemand(EquipamentoRepository.class);
+		arquivo = jdbi.onDemand(ArquivoRepository.class);
+	}
+
+	@AfterEach
+	void tearDown() {
+		jdbi.useHandle(h -> h.execute("DROP ALL OBJECTS"));
+	}
+
+	@Test
+	void consultasSoVeemABandaAtual() {
+		Long agendamento = BandaContexto.executar(BANDA, () -> popular("Casamento"));
+		BandaContexto.executar(OUTRA, () -> popular("Carnaval"));
+
+		BandaContexto.executar(BANDA, () -> {
+			assertEquals(1, usuarios.findAll().size());
+			assertEquals(1, usuarios.findAllResumo().size());
+			assertEquals(List.of("Casamento"), agendamentos.findAll().stream().map(Agendamento::getNomeEvento).toList());
+			assertEquals(1, agendamentos.findByPeriodo(LocalDate.of(2025, 1, 1), LocalDate.of(2025, 12, 31)).size());
+			assertEquals(1, agendamentos.findAgendaPublica(LocalDate.of(2025, 1, 1)).size());
+			assertEquals(1, contratos.findAll().size());
+			assertEquals(1, contratos.findPendentesAssinatura().size());
+			assertEquals(1, ensaios.findAll().size());
+			assertEquals(1, equipamentos.findAll().size());
+			assertEquals("Casamento", agendamentos.findById(agendamento).getNomeEvento());
+		});
+	}
+
+	@Test
+	void idDeOutraBandaNaoEncontraNemAltera() {
+		Long agendamento = BandaContexto.executar(BANDA, () -> popular("Casamento"));
+		Long contrato = BandaContexto.executar(BANDA, () -> contratos.findByAgendamentoId(agendamento).getIdContrato());
+		Long usuario = BandaContexto.executar(BANDA, () -> usuarios.findByEmail("ana@x.com").getIdUsuario());
+
+		BandaContexto.executar(OUTRA, () -> {
+			assertNull(agendamentos.findById(agendamento));
+			assertNull(contratos.findById(contrato));
+			assertNull(usuarios.findByEmail("ana@x.com"));
+			assertEquals(0, agendamentos.updateAprovado(agendamento, false));
+			assertEquals(0, contratos.assinarProdutor(contrato));
+			assertEquals(0, usuarios.updateAtivo(usuario, false));
+			assertEquals(0, contratos.delete(contrato));
+			assertEquals(0, agendamentos.delete(agendamento));
+		});
+
+		BandaContexto.executar(BANDA, () -> {
+			Contrato intacto = contratos.findById(contrato);
+			assertEquals(false, intacto.getAssinaturaProdutor());
+			assertEquals(true, agendamentos.findById(agendamento).getAprovado());
+			assertEquals(true, usuarios.findById(usuario).getAtivo());
+		});
+	}
+
+	@Test
+	void arquivoTambemSeparaPorBanda() {
+		Long agendamento = BandaContexto.executar(BANDA, () -> popular("Casamento"));
+		BandaContexto.executar(OUTRA, () -> popular("Carnaval"));
+		assertEquals(1, arquivo.arquivarLote(List.of(agendamento)));
+
+		BandaContexto.executar(BANDA, () -> {
+			assertEquals(1, arquivo.findAgendamentos().size());
+			assertEquals(1, arquivo.findContratos().size());
+			assertEquals(1, agendamentos.findByPeriodoComArquivo(LocalDate.of(2025, 1, 1), LocalDate.of(2025, 12, 31)).size());
+			assertNull(agendamentos.findById(agendamento));
+			assertEquals("Casamento", agendamentos.findByIdComArquivo(agendamento).getNomeEvento());
+			assertEquals(agendamento, contratos.findByAgendamentoIdComArquivo(agendamento).getIdAgendamento());
+		});
+		BandaContexto.executar(OUTRA, () -> {
+			assertEquals(0, arquivo.findAgendamentos().size());
+			assertNull(agendamentos.findByIdComArquivo(agendamento));
+			assertNull(contratos.findByAgendamentoIdComArquivo(agendamento));
+		});
+	}
+
+	@Test
+	void semBandaNoContextoNaoConsulta() {
+		BandaContexto.executar(BANDA, () -> popular("Casamento"));
+
+		assertThrows(IllegalStateException.class, () -> agendamentos.findAll());
+	}
+
+	// O mesmo e-mail e os mesmos dados em cada banda
+	private Long popular(String evento) {
+		Long usuario = usuarios.insert(new Usuario(null, "Ana", "ana@x.com", "h", "CONTRATANTE",
+				LocalDate.of(1990, 5, 1), "3199", null, true));
+		Long agendamento = agendamentos.insert(new Agendamento(null, usuario, evento, 100, "Rua A", "10", "Centro",
+				"Contagem", "MG", LocalDate.of(2025, 3, 1), null, true, "Público", new BigDecimal("1000.00"), true,
+				null));
+		contratos.insert(new Contrato(null, agendamento, null, new BigDecimal("1200.00"), false, false, null, null));
+		ensaios.insert(new Ensaio(null, LocalDate.of(2025, 2, 1), "19h", "Quadra"));
+		equipamentos.insert(new Equipamento(null, "Surdo", 'S'));
+		return agendamento;
+	}
+}
@@ -0,0 +1,125 @@
+package br.cefetmg.seliganosamba.repository;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import org.jdbi.v3.core.Jdbi;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import br.cefetmg.seliganosamba.banda.BandaContexto;
+import br.cefetmg.seliganosamba.model.Contrato;
+
+class ContratoAssinaturaTest {
+
+	private static final int CONTRATOS = 50;
+	private static final int TENTATIVAS_POR_PARTE = 8;
+
+	private Jdbi jdbi;
+	private ContratoRepository contratoRepository;
+	private BandaContexto.Escopo banda;
+
+	@BeforeEach
+	void setUp() {
+		jdbi = BancoDeTeste.criar("assinatura");
+		contratoRepository = jdbi.onDemand(ContratoRepository.class);
+		banda = BandaContexto.abrir(1L);
+	}
+
+	@AfterEach
+	void tearDown() {
+		jdbi.useHandle(h -> h.execute("DROP ALL OBJECTS"));
+		banda.close();
+	}
+
+	@Test
+	void dataAssinaturaSoNaSegundaParte() {
+		Long id = novoContrato();
+
+		assertEquals(1, contratoRepository.assinarProdutor(id));
+		Contrato parcial = contratoRepository.findById(id);
+		assertTrue(parcial.getAssinaturaProdutor());
+		assertNull(parcial.getDataAssinatura());
+
+		assertEquals(0, contratoRepository.assinarProdutor(id));
+		assertEquals(1, contratoRepository.assinarContratante(id));
+		Contrato assinado = contratoRepository.findById(id);
+		assertTrue(assinado.getAssinaturaProdutor());
+		assertTrue(assinado.getAssinaturaContratante());
+		assertNotNull(assinado.getDataAssinatura());
+
+		assertEquals(0, contratoRepository.assinarContratante(id));
+		assertEquals(0, contratoRepository.assinarProdutor(id));
+		assertEquals(assinado, contratoRepository.findById(id));
+	}
+
+	@Test
+	void assinaturasSimultaneasNaoSePerdem() throws Exception {
+		List<Long> ids = new ArrayList<>();
+		for (int i = 0; i < CONTRATOS; i++) {
+			ids.add(novoContrato());
+		}
+
+		// Todas as tentativas de todos os contratos largam juntas, com as duas partes repetindo a assinatura
+		ExecutorService executor = Executors.newFixedThreadPool(64);
+		CountDownLatch largada = new CountDownLatch(1);
+		List<Future<Integer>> produtor = new ArrayList<>();
+		List<Future<Integer>> contratante = new ArrayList<>();
+		try {
+			for (Long id : ids) {
+				for (int i = 0; i < TENTATIVAS_POR_PARTE; i++) {
+					produtor.add(executor.submit(() -> {
+						largada.await();
+						return BandaContexto.executar(1L, () -> contratoRepository.assinarProdutor(id));
+					}));
+					contratante.add(executor.submit(() -> {
+						largada.await();
+						return BandaContexto.executar(1L, () -> contratoRepository.assinarContratante(id));
+					}));
+				}
+			}
+			largada.countDown();
+
+			// Idempotência: só a primeira tentativa de cada parte altera a linha
+			assertEquals(CONTRATOS, somar(produtor));
+			assertEquals(CONTRATOS, somar(contratante));
+		} finally {
+			executor.shutdownNow();
+		}
+
+		for (Long id : ids) {
+			Contrato contrato = contratoRepository.findById(id);
+			assertTrue(contrato.getAssinaturaProdutor(), "produtor " + id);
+			assertTrue(contrato.getAssinaturaContratante(), "contratante " + id);
+			assertNotNull(contrato.getDataAssinatura(), "dataAssinatura " + id);
+		}
+	}
+
+	private Long novoContrato() {
+		Contrato contrato = new Contrato();
+		contrato.setIdAgendamento(1L);
+		contrato.setValor(new BigDecimal("1000.00"));
+		contrato.setAssinaturaProdutor(false);
+		contrato.setAssinaturaContratante(false);
+		return contratoRepository.insert(contrato);
+	}
+
+	private static int somar(List<Future<Integer>> resultados) throws Exception {
+		int total = 0;
+		for (Future<Integer> resultado : resultados) {
+			total += resultado.get();
+		}
+		return total;
+	}
+}
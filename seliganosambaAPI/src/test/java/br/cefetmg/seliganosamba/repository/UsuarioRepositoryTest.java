@@ -0,0 +1,55 @@
+package br.cefetmg.seliganosamba.repository;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+import java.time.LocalDate;
+
+import org.jdbi.v3.core.Jdbi;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import br.cefetmg.seliganosamba.banda.BandaContexto;
+import br.cefetmg.seliganosamba.model.Usuario;
+
+/**
+ * A senha não sai da listagem padrão e uma alteração sem senha mantém a atual.
+ */
+class UsuarioRepositoryTest {
+
+	private Jdbi jdbi;
+	private UsuarioRepository usuarios;
+	private BandaContexto.Escopo banda;
+
+	@BeforeEach
+	void setUp() {
+		jdbi = BancoDeTeste.criar("usuario");
+		usuarios = jdbi.onDemand(UsuarioRepository.class);
+		banda = BandaContexto.abrir(1L);
+	}
+
+	@AfterEach
+	void tearDown() {
+		banda.close();
+		jdbi.useHandle(h -> h.execute("DROP ALL OBJECTS"));
+	}
+
+	@Test
+	void listagemSemSenhaEAlteracaoQueMantemASenha() {
+		Long id = usuarios.insert(new Usuario(null, "Ana", "ana@x.com", "segredo", "CONTRATANTE",
+				LocalDate.of(1990, 5, 1), "3199", null, true));
+
+		Usuario listado = usuarios.findAllSemSenha().get(0);
+		assertNull(listado.getSenha());
+		assertEquals("3199", listado.getTelefone());
+
+		// O que a tela de administração devolve depois de editar um usuário da listagem
+		listado.setNome("Ana Maria");
+		assertEquals(1, usuarios.update(listado));
+
+		Usuario alterado = usuarios.findById(id);
+		assertEquals("Ana Maria", alterado.getNome());
+		assertEquals("segredo", alterado.getSenha());
+	}
+}
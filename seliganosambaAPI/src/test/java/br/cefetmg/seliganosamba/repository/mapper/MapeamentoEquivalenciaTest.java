@@ -0,0 +1,122 @@
+package br.cefetmg.seliganosamba.repository.mapper;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+
+import java.util.List;
+
+import org.jdbi.v3.core.Handle;
+import org.jdbi.v3.core.Jdbi;
+import org.jdbi.v3.core.mapper.RowMapper;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import br.cefetmg.seliganosamba.banda.BandaContexto;
+import br.cefetmg.seliganosamba.model.Agendamento;
+import br.cefetmg.seliganosamba.model.Contrato;
+import br.cefetmg.seliganosamba.model.Ensaio;
+import br.cefetmg.seliganosamba.model.Equipamento;
+import br.cefetmg.seliganosamba.model.Usuario;
+import br.cefetmg.seliganosamba.repository.AgendamentoRepository;
+import br.cefetmg.seliganosamba.repository.BancoDeTeste;
+import br.cefetmg.seliganosamba.repository.ContratoRepository;
+import br.cefetmg.seliganosamba.repository.EquipamentoRepository;
+import br.cefetmg.seliganosamba.repository.UsuarioRepository;
+
+/**
+ * Compara os mappers explícitos com o BeanMapper do JDBI que eles substituem,
+ * sobre as mesmas linhas (inclusive colunas nulas) num H2 em modo MySQL.
+ */
+class MapeamentoEquivalenciaTest {
+
+	private Jdbi jdbi;
+	private Handle handle;
+	private BandaContexto.Escopo banda;
+
+	@BeforeEach
+	void setUp() {
+		jdbi = BancoDeTeste.criar("equivalencia");
+		banda = BandaContexto.abrir(1L);
+		handle = jdbi.open();
+		handle.execute("""
+				INSERT INTO Usuario (nome, email, senha, funcao, dtNascimento, telefone, dataCadastro, ativo) VALUES
+					('Ana', 'ana@x.com', 'h', 'CONTRATANTE', '1990-05-01', '3199', '2025-01-02 10:11:12', true),
+					('Sem dados', null, null, null, null, null, null, null)
+				""");
+		handle.execute("""
+				INSERT INTO Agendamento (idUsuario, nomeEvento, quantidadeConvidados, rua, numero, bairro, cidade,
+					estado, dataEvento, horario, sonorizacao, tipoEvento, orcamento, aprovado, dataCriacao) VALUES
+					(1, 'Casamento', 120, 'Rua A', '10', 'Centro', 'Contagem', 'MG', '2025-03-01', '20:30:00',
+						true, 'Casamento', 1500.50, false, '2025-01-05 08:00:00'),
+					(null, null, null, null, null, null, null, null, null, null, null, null, null, null, null)
+				""");
+		handle.execute("""
+				INSERT INTO Contrato (idAgendamento, pdf, valor, assinaturaProdutor, assinaturaContratante,
+					dataCriacao, dataAssinatura) VALUES
+					(1, 'c.pdf', 1500.50, true, false, '2025-01-06 09:00:00', null),
+					(1, null, null, null, null, null, '2025-01-07 09:00:00')
+				""");
+		handle.execute("INSERT INTO Ensaio (dtEnsaio, horario, local) VALUES ('2025-02-01', '19h', 'Quadra'), (null, null, null)");
+		handle.execute("INSERT INTO Equipamento (nmEquipamento, disponivel) VALUES ('Surdo', 'S'), ('Caixa', 'N'), (null, null)");
+	}
+
+	@AfterEach
+	void tearDown() {
+		handle.execute("DROP ALL OBJECTS");
+		handle.close();
+		banda.close();
+	}
+
+	@Test
+	void mapeiaIgualAoBeanMapper() {
+		comparar("Usuario", Usuario.class, new UsuarioMapper());
+		comparar("Agendamento", Agendamento.class, new AgendamentoMapper());
+		comparar("Contrato", Contrato.class, new ContratoMapper());
+		comparar("Ensaio", Ensaio.class, new EnsaioMapper());
+		comparar("Equipamento", Equipamento.class, new EquipamentoMapper());
+	}
+
+	@Test
+	void ignoraColunasForaDoSelect() {
+		List<Agendamento> esperado = handle.createQuery("SELECT idAgendamento, cidade, orcamento FROM Agendamento")
+				.mapToBean(Agendamento.class).list();
+		List<Agendamento> obtido = handle.createQuery("SELECT idAgendamento, cidade, orcamento FROM Agendamento")
+				.map(new AgendamentoMapper()).list();
+
+		assertEquals(esperado, obtido);
+	}
+
+	@Test
+	void bindModeloGravaOsMesmosValoresQueOBindBean() {
+		AgendamentoRepository agendamentos = jdbi.onDemand(AgendamentoRepository.class);
+		Agendamento original = agendamentos.findById(1L);
+		original.setIdAgendamento(agendamentos.insert(original));
+		assertEquals(original, agendamentos.findById(original.getIdAgendamento()));
+
+		ContratoRepository contratos = jdbi.onDemand(ContratoRepository.class);
+		Contrato contrato = contratos.findById(1L);
+		contrato.setIdContrato(contratos.insert(contrato));
+		assertEquals(contrato, contratos.findById(contrato.getIdContrato()));
+
+		UsuarioRepository usuarios = jdbi.onDemand(UsuarioRepository.class);
+		Usuario usuario = usuarios.findById(2L);
+		usuario.setIdUsuario(usuarios.insert(usuario));
+		assertEquals(usuario, usuarios.findById(usuario.getIdUsuario()));
+
+		EquipamentoRepository equipamentos = jdbi.onDemand(EquipamentoRepository.class);
+		Equipamento equipamento = equipamentos.findById(1L);
+		equipamento.setDisponivel('N');
+		assertEquals(1, equipamentos.update(equipamento));
+		assertEquals('N', equipamentos.findById(1L).getDisponivel());
+	}
+
+	private <T> void comparar(String tabela, Class<T> tipo, RowMapper<T> mapper) {
+		String sql = "SELECT * FROM " + tabela;
+		List<T> esperado = handle.createQuery(sql).mapToBean(tipo).list();
+		List<T> obtido = handle.createQuery(sql).map(mapper).list();
+
+		assertFalse(esperado.isEmpty());
+		assertEquals(esperado, obtido, tabela);
+	}
+}
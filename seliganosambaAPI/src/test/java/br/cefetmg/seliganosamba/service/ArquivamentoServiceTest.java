@@ -0,0 +1,141 @@
+package br.cefetmg.seliganosamba.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.jdbi.v3.core.Jdbi;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import br.cefetmg.seliganosamba.banda.BandaContexto;
+import br.cefetmg.seliganosamba.model.Agendamento;
+import br.cefetmg.seliganosamba.model.Contrato;
+import br.cefetmg.seliganosamba.repository.AgendamentoRepository;
+import br.cefetmg.seliganosamba.repository.ArquivoRepository;
+import br.cefetmg.seliganosamba.repository.BancoDeTeste;
+import br.cefetmg.seliganosamba.repository.ContratoRepository;
+
+/**
+ * Arquivamento em lotes de 2 sobre o H2: só eventos concluídos saem, cada lote é uma
+ * transação, e uma falha no meio preserva os lotes anteriores e é retomada na execução seguinte.
+ */
+class ArquivamentoServiceTest {
+
+	private Jdbi jdbi;
+	private ArquivamentoService arquivamento;
+	// Contratos dos cinco eventos antigos, na ordem em que são arquivados
+	private final List<Long> contratos = new ArrayList<>();
+
+	@BeforeEach
+	void setUp() {
+		jdbi = BancoDeTeste.criar("arquivamento");
+		arquivamento = new ArquivamentoService(jdbi.onDemand(ArquivoRepository.class));
+		ReflectionTestUtils.setField(arquivamento, "horizonteDias", 365);
+		ReflectionTestUtils.setField(arquivamento, "lote", 2);
+
+		AgendamentoRepository agendamentos = jdbi.onDemand(AgendamentoRepository.class);
+		ContratoRepository contratoRepository = jdbi.onDemand(ContratoRepository.class);
+		BandaContexto.executar(1L, () -> {
+			for (int i = 1; i <= 5; i++) {
+				Long antigo = agendamentos.insert(agendamento(LocalDate.of(2020, 1, i)));
+				contratos.add(contratoRepository.insert(new Contrato(null, antigo, null, new BigDecimal("1200.00"),
+						true, true, null, null)));
+			}
+			agendamentos.insert(agendamento(LocalDate.now().plusDays(30)));
+		});
+	}
+
+	@AfterEach
+	void tearDown() {
+		jdbi.useHandle(h -> h.execute("DROP ALL OBJECTS"));
+	}
+
+	@Test
+	void arquivaEmVariosLotesSoOsEventosAntigos() {
+		arquivamento.arquivar();
+
+		assertEquals(5, contar("AgendamentoArquivo"));
+		assertEquals(5, contar("ContratoArquivo"));
+		assertEquals(1, contar("Agendamento"));
+		assertEquals(0, contar("Contrato"));
+		assertEquals(10, contar("Alteracao"));
+	}
+
+	@Test
+	void eventosNaoConcluidosFicamQuentes() {
+		AgendamentoRepository agendamentos = jdbi.onDemand(AgendamentoRepository.class);
+		ContratoRepository contratoRepository = jdbi.onDemand(ContratoRepository.class);
+		Long semAssinatura = BandaContexto.executar(1L, () -> {
+			Agendamento pendente = agendamento(LocalDate.of(2020, 2, 1));
+			pendente.setAprovado(false);
+			agendamentos.insert(pendente);
+			agendamentos.insert(agendamento(LocalDate.of(2020, 2, 2)));
+			Long aprovado = agendamentos.insert(agendamento(LocalDate.of(2020, 2, 3)));
+			return contratoRepository.insert(new Contrato(null, aprovado, null, new BigDecimal("900.00"), true, false,
+					null, null));
+		});
+
+		arquivamento.arquivar();
+
+		// Pendente, aprovado sem contrato e contrato sem a assinatura do contratante, mais o evento futuro
+		assertEquals(5, contar("AgendamentoArquivo"));
+		assertEquals(4, contar("Agendamento"));
+		assertEquals(1, contar("Contrato"));
+		assertEquals(1, BandaContexto.executar(1L, () -> contratoRepository.assinarContratante(semAssinatura)));
+	}
+
+	@Test
+	void limiteDeConsultaVemDoQueFoiArquivado() {
+		assertEquals(LocalDate.MAX, arquivamento.getLimite());
+		arquivamento.atualizarLimite();
+		assertEquals(LocalDate.MIN, arquivamento.getLimite());
+
+		arquivamento.arquivar();
+		assertEquals(LocalDate.of(2020, 1, 6), arquivamento.getLimite());
+
+		// Aumentar o horizonte não esconde o que foi arquivado com o horizonte antigo
+		ReflectionTestUtils.setField(arquivamento, "horizonteDias", 5000);
+		arquivamento.arquivar();
+		assertEquals(LocalDate.of(2020, 1, 6), arquivamento.getLimite());
+		List<Agendamento> periodo = BandaContexto.executar(1L, () -> jdbi.onDemand(AgendamentoRepository.class)
+				.findByPeriodo(LocalDate.of(2020, 1, 1), LocalDate.of(2020, 1, 31), arquivamento.getLimite()));
+		assertEquals(5, periodo.size());
+	}
+
+	@Test
+	void falhaNoMeioPreservaOsLotesAnterioresERetoma() {
+		// O contrato do terceiro evento já "está" no arquivo: o segundo lote falha na cópia
+		jdbi.useHandle(h -> h.execute("INSERT INTO ContratoArquivo (idContrato, idBanda) VALUES (?, 1)",
+				contratos.get(2)));
+
+		arquivamento.arquivar();
+
+		assertEquals(2, contar("AgendamentoArquivo"));
+		assertEquals(4, contar("Agendamento"));
+		assertEquals(3, contar("Contrato"));
+		assertEquals(4, contar("Alteracao"));
+
+		jdbi.useHandle(h -> h.execute("DELETE FROM ContratoArquivo WHERE idContrato = ?", contratos.get(2)));
+		arquivamento.arquivar();
+
+		assertEquals(5, contar("AgendamentoArquivo"));
+		assertEquals(5, contar("ContratoArquivo"));
+		assertEquals(1, contar("Agendamento"));
+		assertEquals(10, contar("Alteracao"));
+	}
+
+	private int contar(String tabela) {
+		return jdbi.withHandle(h -> h.createQuery("SELECT COUNT(*) FROM " + tabela).mapTo(Integer.class).one());
+	}
+
+	private static Agendamento agendamento(LocalDate data) {
+		return new Agendamento(null, null, "Casamento", 100, "Rua A", "10", "Centro", "Contagem", "MG", data, null,
+				true, "Público", new BigDecimal("1000.00"), true, null);
+	}
+}
@@ -0,0 +1,55 @@
+package br.cefetmg.seliganosamba.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.List;
+import java.util.Optional;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import br.cefetmg.seliganosamba.model.Banda;
+import br.cefetmg.seliganosamba.repository.BandaRepository;
+
+class BandaServiceTest {
+
+	private BandaRepository bandaRepository;
+	private BandaService bandaService;
+
+	@BeforeEach
+	void setUp() {
+		bandaRepository = mock(BandaRepository.class);
+		when(bandaRepository.findAll()).thenReturn(List.of(new Banda(1L, "seliganosamba", "Se Liga no Samba")));
+		bandaService = new BandaService(bandaRepository);
+		ReflectionTestUtils.setField(bandaService, "padrao", "seliganosamba");
+		ReflectionTestUtils.setField(bandaService, "recargaMs", 60_000L);
+	}
+
+	@Test
+	void slugsAleatoriosNaoConsultamOBancoACadaRequisicao() {
+		for (int i = 0; i < 1000; i++) {
+			assertTrue(bandaService.resolver("banda-" + i).isEmpty());
+		}
+
+		assertEquals(Optional.of(1L), bandaService.resolver(null));
+		assertEquals(Optional.of(1L), bandaService.resolver(" SeLigaNoSamba "));
+		verify(bandaRepository, times(1)).findAll();
+	}
+
+	@Test
+	void bandaNovaAparecePassadoOIntervalo() {
+		assertTrue(bandaService.resolver("outra").isEmpty());
+		when(bandaRepository.findAll()).thenReturn(List.of(new Banda(1L, "seliganosamba", "Se Liga no Samba"),
+				new Banda(2L, "outra", "Outra Banda")));
+		assertTrue(bandaService.resolver("outra").isEmpty());
+
+		ReflectionTestUtils.setField(bandaService, "recargaMs", 0L);
+		assertEquals(Optional.of(2L), bandaService.resolver("outra"));
+	}
+}
@@ -0,0 +1,198 @@
+package br.cefetmg.seliganosamba.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.atLeast;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import br.cefetmg.seliganosamba.banda.BandaContexto;
+import br.cefetmg.seliganosamba.dto.RelatorioLinha;
+import br.cefetmg.seliganosamba.model.Agendamento;
+import br.cefetmg.seliganosamba.model.Contrato;
+import br.cefetmg.seliganosamba.repository.AgendamentoRepository;
+import br.cefetmg.seliganosamba.repository.ArquivoRepository;
+import br.cefetmg.seliganosamba.repository.ContratoRepository;
+
+class RelatorioServiceTest {
+
+	private AgendamentoRepository agendamentoRepository;
+	private ContratoRepository contratoRepository;
+	private RelatorioService relatorioService;
+	private BandaContexto.Escopo banda;
+
+	@BeforeEach
+	void setUp() throws Exception {
+		agendamentoRepository = mock(AgendamentoRepository.class);
+		contratoRepository = mock(ContratoRepository.class);
+		// Histórico só na banda 1; a banda 2 começa vazia
+		when(agendamentoRepository.findAll()).thenAnswer(invocacao -> daBanda1(List.of(
+				agendamento(1L, "2025-02-10", "Casamento", "Contagem", "1000.00", true),
+				agendamento(2L, "2025-02-20", "Carnaval", "Contagem", "3000.00", false))));
+		when(contratoRepository.findAll()).thenAnswer(invocacao -> daBanda1(List.of(contrato(10L, 1L, "1200.00"))));
+
+		ArquivoRepository arquivoRepository = mock(ArquivoRepository.class);
+		when(arquivoRepository.findAgendamentos()).thenAnswer(invocacao -> daBanda1(List.of(
+				agendamento(3L, "2023-02-15", "Formatura", "Betim", "800.00", true))));
+
+		BandaService bandaService = mock(BandaService.class);
+		when(bandaService.listarIds()).thenReturn(List.of(1L));
+
+		relatorioService = new RelatorioService(agendamentoRepository, contratoRepository, arquivoRepository,
+				bandaService);
+		relatorioService.iniciar();
+		relatorioService.aguardar();
+		banda = BandaContexto.abrir(1L);
+	}
+
+	@AfterEach
+	void tearDown() {
+		banda.close();
+	}
+
+	@Test
+	void carregaHistoricoPorMes() {
+		RelatorioLinha fevereiro = linha(RelatorioService.Dimensao.MES, "2025-02");
+
+		assertEquals(2, fevereiro.agendamentos());
+		assertEquals(1, fevereiro.aprovados());
+		assertEquals(new BigDecimal("0.5000"), fevereiro.taxaAprovacao());
+		assertEquals(new BigDecimal("4000.00"), fevereiro.orcamentoTotal());
+		assertEquals(new BigDecimal("1000.00"), fevereiro.orcamentoMinimo());
+		assertEquals(new BigDecimal("3000.00"), fevereiro.orcamentoMaximo());
+		assertEquals(1, fevereiro.contratos());
+		assertEquals(new BigDecimal("1200.00"), fevereiro.receitaTotal());
+	}
+
+	@Test
+	void incluiHistoricoArquivado() {
+		RelatorioLinha arquivado = linha(RelatorioService.Dimensao.MES, "2023-02");
+
+		assertEquals(1, arquivado.agendamentos());
+		assertEquals(new BigDecimal("800.00"), arquivado.orcamentoTotal());
+	}
+
+	@Test
+	void alteracaoMoveAgendamentoEContratoDeBalde() throws Exception {
+		when(agendamentoRepository.findById(1L))
+				.thenReturn(agendamento(1L, "2025-03-05", "Casamento", "Betim", "1500.00", true));
+
+		relatorioService.agendamentoAlterado(1L);
+		relatorioService.aguardar();
+
+		RelatorioLinha fevereiro = linha(RelatorioService.Dimensao.MES, "2025-02");
+		RelatorioLinha marco = linha(RelatorioService.Dimensao.MES, "2025-03");
+		assertEquals(1, fevereiro.agendamentos());
+		assertEquals(new BigDecimal("3000.00"), fevereiro.orcamentoMinimo());
+		assertEquals(0, fevereiro.contratos());
+		assertEquals(1, marco.contratos());
+		assertEquals(new BigDecimal("1500.00"), marco.orcamentoTotal());
+		assertTrue(relatorioService.consultar(RelatorioService.Dimensao.CIDADE).orElseThrow().stream()
+				.anyMatch(linha -> linha.chave().equals("Betim")));
+	}
+
+	@Test
+	void remocaoDescartaBaldesVazios() throws Exception {
+		relatorioService.contratoRemovido(10L);
+		relatorioService.agendamentoRemovido(1L);
+		relatorioService.aguardar();
+
+		assertTrue(relatorioService.consultar(RelatorioService.Dimensao.TIPO_EVENTO).orElseThrow().stream()
+				.noneMatch(linha -> linha.chave().equals("Casamento")));
+		assertEquals(new BigDecimal("0.00"), linha(RelatorioService.Dimensao.MES, "2025-02").receitaTotal());
+	}
+
+	@Test
+	void cadaBandaTemSuaParticao() throws Exception {
+		when(agendamentoRepository.findById(5L))
+				.thenReturn(agendamento(5L, "2025-02-12", "Show", "Sabará", "700.00", true));
+
+		BandaContexto.executar(2L, () -> relatorioService.agendamentoAlterado(5L));
+		relatorioService.aguardar();
+
+		assertEquals(2, linha(RelatorioService.Dimensao.MES, "2025-02").agendamentos());
+		List<RelatorioLinha> outra = BandaContexto.executar(2L,
+				() -> relatorioService.consultar(RelatorioService.Dimensao.MES).orElseThrow());
+		assertEquals(1, outra.size());
+		assertEquals(new BigDecimal("700.00"), outra.get(0).orcamentoTotal());
+	}
+
+	@Test
+	void bandaCadastradaDepoisCarregaOHistorico() throws Exception {
+		when(agendamentoRepository.findAll()).thenAnswer(invocacao -> BandaContexto.getAtual() == 3L
+				? List.of(agendamento(7L, "2025-05-01", "Festa", "Sabará", "900.00", true))
+				: List.of());
+
+		BandaContexto.executar(3L, () -> relatorioService.consultar(RelatorioService.Dimensao.MES));
+		relatorioService.aguardar();
+
+		List<RelatorioLinha> nova = BandaContexto.executar(3L,
+				() -> relatorioService.consultar(RelatorioService.Dimensao.MES).orElseThrow());
+		assertEquals(1, nova.size());
+		assertEquals(new BigDecimal("900.00"), nova.get(0).orcamentoTotal());
+	}
+
+	@Test
+	void falhaNaCargaRepeteESoDepoisResponde() throws Exception {
+		ReflectionTestUtils.setField(relatorioService, "retentativaInicialMs", 20L);
+		ReflectionTestUtils.setField(relatorioService, "retentativaMaximaMs", 40L);
+		when(contratoRepository.findAll())
+				.thenThrow(new IllegalStateException("sem conexão"))
+				.thenThrow(new IllegalStateException("sem conexão"))
+				.thenReturn(List.of());
+
+		BandaContexto.executar(4L, () -> {
+			assertTrue(relatorioService.consultar(RelatorioService.Dimensao.MES).isEmpty());
+			long limite = System.currentTimeMillis() + 5000;
+			while (relatorioService.consultar(RelatorioService.Dimensao.MES).isEmpty()
+					&& System.currentTimeMillis() < limite) {
+				LockSupport.parkNanos(TimeUnit.MILLISECONDS.toNanos(10));
+			}
+			assertTrue(relatorioService.consultar(RelatorioService.Dimensao.MES).isPresent());
+		});
+		verify(contratoRepository, atLeast(3)).findAll();
+	}
+
+	private static <T> List<T> daBanda1(List<T> historico) {
+		return BandaContexto.getAtual() == 1L ? historico : List.of();
+	}
+
+	private RelatorioLinha linha(RelatorioService.Dimensao dimensao, String chave) {
+		return relatorioService.consultar(dimensao).orElseThrow().stream()
+				.filter(linha -> linha.chave().equals(chave))
+				.findFirst()
+				.orElseThrow();
+	}
+
+	private static Agendamento agendamento(Long id, String data, String tipo, String cidade, String orcamento,
+			boolean aprovado) {
+		Agendamento agendamento = new Agendamento();
+		agendamento.setIdAgendamento(id);
+		agendamento.setDataEvento(LocalDate.parse(data));
+		agendamento.setTipoEvento(tipo);
+		agendamento.setCidade(cidade);
+		agendamento.setOrcamento(new BigDecimal(orcamento));
+		agendamento.setAprovado(aprovado);
+		return agendamento;
+	}
+
+	private static Contrato contrato(Long id, Long idAgendamento, String valor) {
+		Contrato contrato = new Contrato();
+		contrato.setIdContrato(id);
+		contrato.setIdAgendamento(idAgendamento);
+		contrato.setValor(new BigDecimal(valor));
+		return contrato;
+	}
+}
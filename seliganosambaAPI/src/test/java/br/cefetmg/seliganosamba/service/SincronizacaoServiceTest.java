@@ -0,0 +1,222 @@
+package br.cefetmg.seliganosamba.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import org.jdbi.v3.core.Jdbi;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import br.cefetmg.seliganosamba.banda.BandaContexto;
+import br.cefetmg.seliganosamba.model.Agendamento;
+import br.cefetmg.seliganosamba.model.Contrato;
+import br.cefetmg.seliganosamba.model.Equipamento;
+import br.cefetmg.seliganosamba.model.Usuario;
+import br.cefetmg.seliganosamba.repository.AgendamentoRepository;
+import br.cefetmg.seliganosamba.repository.AlteracaoRepository;
+import br.cefetmg.seliganosamba.repository.ArquivoRepository;
+import br.cefetmg.seliganosamba.repository.BancoDeTeste;
+import br.cefetmg.seliganosamba.repository.ContratoRepository;
+import br.cefetmg.seliganosamba.repository.EnsaioRepository;
+import br.cefetmg.seliganosamba.repository.EquipamentoRepository;
+import br.cefetmg.seliganosamba.repository.UsuarioRepository;
+import br.cefetmg.seliganosamba.service.SincronizacaoService.Entidade;
+import br.cefetmg.seliganosamba.service.SincronizacaoService.Mudancas;
+import br.cefetmg.seliganosamba.service.SincronizacaoService.Remocao;
+
+class SincronizacaoServiceTest {
+
+	private Jdbi jdbi;
+	private EquipamentoRepository equipamentos;
+	private SincronizacaoService sincronizacao;
+	private BandaContexto.Escopo banda;
+
+	@BeforeEach
+	void setUp() {
+		jdbi = BancoDeTeste.criar("sincronizacao");
+		equipamentos = jdbi.onDemand(EquipamentoRepository.class);
+		sincronizacao = new SincronizacaoService(jdbi, jdbi.onDemand(AlteracaoRepository.class),
+				jdbi.onDemand(UsuarioRepository.class), jdbi.onDemand(AgendamentoRepository.class),
+				jdbi.onDemand(ContratoRepository.class), jdbi.onDemand(EnsaioRepository.class), equipamentos);
+		ReflectionTestUtils.setField(sincronizacao, "margemMs", 0L);
+		ReflectionTestUtils.setField(sincronizacao, "limite", 500);
+		ReflectionTestUtils.setField(sincronizacao, "loteCompactacao", 2);
+		banda = BandaContexto.abrir(1L);
+	}
+
+	@AfterEach
+	void tearDown() {
+		banda.close();
+		jdbi.useHandle(h -> h.execute("DROP ALL OBJECTS"));
+	}
+
+	@Test
+	void deltaTrazSoOQueMudouDepoisDoToken() {
+		Long pandeiro = criar("Pandeiro");
+		Long surdo = criar("Surdo");
+
+		Mudancas carga = sincronizacao.mudancas(null);
+		assertEquals(2, carga.equipamentos().size());
+		assertTrue(sincronizacao.mudancas(carga.token()).equipamentos().isEmpty());
+
+		renomear(pandeiro, "Pandeiro 12\"");
+		renomear(pandeiro, "Pandeiro 10\"");
+		sincronizacao.remover(Entidade.EQUIPAMENTO, surdo, () -> equipamentos.delete(surdo));
+
+		Mudancas delta = sincronizacao.mudancas(carga.token());
+		assertEquals(1, delta.equipamentos().size());
+		assertEquals("Pandeiro 10\"", delta.equipamentos().get(0).getNmEquipamento());
+		assertEquals(List.of(new Remocao(Entidade.EQUIPAMENTO, surdo)), delta.removidos());
+		assertFalse(delta.mais());
+		assertTrue(delta.token() > carga.token());
+	}
+
+	@Test
+	void usuariosSaemSemSenha() {
+		UsuarioRepository usuarios = jdbi.onDemand(UsuarioRepository.class);
+		Long ana = sincronizacao.inserir(Entidade.USUARIO, () -> usuarios.insert(new Usuario(null, "Ana", "ana@x.com",
+				"segredo", "CONTRATANTE", LocalDate.of(1990, 5, 1), "3199", null, true)));
+
+		Mudancas carga = sincronizacao.mudancas(null);
+		Mudancas delta = sincronizacao.mudancas(0L);
+
+		for (Mudancas mudancas : List.of(carga, delta)) {
+			assertEquals(1, mudancas.usuarios().size());
+			assertEquals(ana, mudancas.usuarios().get(0).getIdUsuario());
+			assertNull(mudancas.usuarios().get(0).getSenha());
+		}
+	}
+
+	@Test
+	void paginaAteAcabarAsMudancas() {
+		ReflectionTestUtils.setField(sincronizacao, "limite", 2);
+		for (int i = 0; i < 5; i++) {
+			criar("Tamborim " + i);
+		}
+
+		long token = 0;
+		int recebidos = 0;
+		Mudancas pagina;
+		do {
+			pagina = sincronizacao.mudancas(token);
+			recebidos += pagina.equipamentos().size();
+			token = pagina.token();
+		} while (pagina.mais());
+
+		assertEquals(5, recebidos);
+		assertTrue(sincronizacao.mudancas(token).equipamentos().isEmpty());
+	}
+
+	@Test
+	void tokenNaoPassaDeEntradaAindaNaMargem() {
+		ReflectionTestUtils.setField(sincronizacao, "margemMs", 60_000L);
+		Long ganza = equipamentos.insert(new Equipamento(null, "Ganzá", 'S'));
+		Long reco = equipamentos.insert(new Equipamento(null, "Reco-reco", 'S'));
+		Long caixa = equipamentos.insert(new Equipamento(null, "Caixa", 'S'));
+		// Ids e datas fora de ordem: a entrada do meio foi gravada por último
+		LocalDateTime antiga = LocalDateTime.now().minusHours(1);
+		registrar(1L, ganza, antiga);
+		registrar(2L, reco, LocalDateTime.now());
+		registrar(3L, caixa, antiga);
+
+		Mudancas primeira = sincronizacao.mudancas(0L);
+		assertEquals(List.of(ganza), ids(primeira));
+		assertEquals(1L, primeira.token());
+		assertEquals(1L, sincronizacao.mudancas(null).token());
+
+		jdbi.useHandle(h -> h.execute("UPDATE Alteracao SET dataAlteracao = ? WHERE idAlteracao = 2", antiga));
+		Mudancas segunda = sincronizacao.mudancas(primeira.token());
+		assertEquals(List.of(reco, caixa), ids(segunda));
+		assertEquals(3L, segunda.token());
+	}
+
+	@Test
+	void registroSumidoViraRemocao() {
+		Long cuica = criar("Cuíca");
+		// Sem passar pelo controller, como faz o arquivamento
+		equipamentos.delete(cuica);
+
+		Mudancas delta = sincronizacao.mudancas(0L);
+		assertTrue(delta.equipamentos().isEmpty());
+		assertEquals(List.of(new Remocao(Entidade.EQUIPAMENTO, cuica)), delta.removidos());
+	}
+
+	@Test
+	void falhaNoLogDesfazAEscrita() {
+		jdbi.useHandle(h -> h.execute("DROP TABLE Alteracao"));
+
+		assertThrows(Exception.class, () -> criar("Timbal"));
+		assertTrue(equipamentos.findAll().isEmpty());
+	}
+
+	@Test
+	void arquivamentoRegistraRemocoes() {
+		AgendamentoRepository agendamentos = jdbi.onDemand(AgendamentoRepository.class);
+		ContratoRepository contratos = jdbi.onDemand(ContratoRepository.class);
+		Long agendamento = agendamentos.insert(new Agendamento(null, null, "Réveillon", 100, "Rua A", "10", "Centro",
+				"Contagem", "MG", LocalDate.of(2020, 12, 31), null, true, "Público", new BigDecimal("1000.00"), true,
+				null));
+		Long contrato = contratos.insert(new Contrato(null, agendamento, null, new BigDecimal("1200.00"), false, false,
+				null, null));
+		long token = sincronizacao.mudancas(null).token();
+
+		jdbi.onDemand(ArquivoRepository.class).arquivarLote(List.of(agendamento));
+
+		assertEquals(List.of(new Remocao(Entidade.AGENDAMENTO, agendamento), new Remocao(Entidade.CONTRATO, contrato)),
+				sincronizacao.mudancas(token).removidos());
+	}
+
+	@Test
+	void outraBandaNaoVeAsMudancas() {
+		criar("Agogô");
+
+		Mudancas outra = BandaContexto.executar(2L, () -> sincronizacao.mudancas(0L));
+		assertEquals(0L, outra.token());
+		assertTrue(outra.equipamentos().isEmpty());
+		assertTrue(outra.removidos().isEmpty());
+	}
+
+	@Test
+	void compactacaoMantemSoAUltimaEntrada() {
+		Long repique = criar("Repique");
+		for (int i = 0; i < 4; i++) {
+			renomear(repique, "Repique " + i);
+		}
+
+		sincronizacao.compactar();
+
+		long entradas = jdbi.withHandle(h -> h.createQuery("SELECT COUNT(*) FROM Alteracao").mapTo(Long.class).one());
+		assertEquals(1, entradas);
+		Mudancas delta = sincronizacao.mudancas(0L);
+		assertEquals("Repique 3", delta.equipamentos().get(0).getNmEquipamento());
+	}
+
+	private Long criar(String nome) {
+		return sincronizacao.inserir(Entidade.EQUIPAMENTO, () -> equipamentos.insert(new Equipamento(null, nome, 'S')));
+	}
+
+	private void registrar(long idAlteracao, Long equipamento, LocalDateTime data) {
+		jdbi.useHandle(h -> h.execute("""
+				INSERT INTO Alteracao (idAlteracao, idBanda, entidade, idRegistro, removido, dataAlteracao)
+				VALUES (?, 1, 'EQUIPAMENTO', ?, FALSE, ?)
+				""", idAlteracao, equipamento, data));
+	}
+
+	private static List<Long> ids(Mudancas mudancas) {
+		return mudancas.equipamentos().stream().map(Equipamento::getIdEquipamento).sorted().toList();
+	}
+
+	private void renomear(Long id, String nome) {
+		sincronizacao.alterar(Entidade.EQUIPAMENTO, id, () -> equipamentos.update(new Equipamento(id, nome, 'S')));
+	}
+}
@@ -46,8 +46,8 @@ export class AgendaPage implements OnInit {
     try {
       console.log('🔍 Iniciando carregamento de agendamentos...');
       
-      // Obter todos os agendamentos
-      const data = await this.apiService.getAllAgendamentos().toPromise();
+      // Obter os eventos da agenda pública
+      const data = await this.apiService.getAgendaPublica().toPromise();
       console.log('📊 Dados recebidos da API:', data);
       
       if (!data || !Array.isArray(data)) {
@@ -299,11 +299,7 @@ export class ContratosPage implements OnInit {
     await loading.present();
 
     try {
-      await this.apiService.updateAssinaturasContrato(
-        idContrato,
-        true, // Mantém assinatura do produtor
-        true  // Adiciona assinatura do contratante
-      ).toPromise();
+      await this.apiService.assinarContrato(idContrato, 'contratante').toPromise();
       
       await loading.dismiss();
       this.mostrarToast('Contrato assinado com sucesso!', 'success');
@@ -220,11 +220,7 @@ export class DashboardContratantePage implements OnInit {
 
   async assinarContratoConfirmado(idContrato: number) {
     try {
-      await this.apiService.updateAssinaturasContrato(
-        idContrato,
-        true, // Mantém assinatura do produtor
-        true  // Adiciona assinatura do contratante
-      ).toPromise();
+      await this.apiService.assinarContrato(idContrato, 'contratante').toPromise();
       
       // Recarrega os dados
       this.carregarDados();
@@ -59,6 +59,17 @@ export interface Usuario {
   ativo?: boolean;
 }
 
+export interface Mudancas {
+  token: number;
+  mais: boolean;
+  usuarios: Usuario[];
+  agendamentos: Agendamento[];
+  contratos: Contrato[];
+  ensaios: Ensaio[];
+  equipamentos: Equipamento[];
+  removidos: { entidade: string; id: number }[];
+}
+
 @Injectable({
   providedIn: 'root'
 })
@@ -87,6 +98,11 @@ export class ApiService {
     return this.http.get<Agendamento[]>(`${this.baseUrl}/agendamento`);
   }
 
+  // Agenda pública: só eventos aprovados, públicos e futuros, sem endereço nem orçamento
+  getAgendaPublica(): Observable<Agendamento[]> {
+    return this.http.get<Agendamento[]>(`${this.baseUrl}/agenda-publica`);
+  }
+
   getAgendamentosByUsuario(idUsuario: number): Observable<Agendamento[]> {
     return this.http.get<Agendamento[]>(`${this.baseUrl}/agendamento/usuario/${idUsuario}`);
   }
@@ -154,16 +170,8 @@ export class ApiService {
     return this.http.delete<Contrato>(`${this.baseUrl}/contrato/${id}`);
   }
 
-  updateAssinaturasContrato(
-    id: number, 
-    assinaturaProdutor: boolean, 
-    assinaturaContratante: boolean
-  ): Observable<void> {
-    const params = new HttpParams()
-      .set('assinaturaProdutor', assinaturaProdutor.toString())
-      .set('assinaturaContratante', assinaturaContratante.toString());
-    
-    return this.http.patch<void>(`${this.baseUrl}/contrato/${id}/assinaturas`, null, { params });
+  assinarContrato(id: number, parte: 'produtor' | 'contratante'): Observable<Contrato> {
+    return this.http.patch<Contrato>(`${this.baseUrl}/contrato/${id}/assinatura/${parte}`, null);
   }
 
   // ========== ENSAIO ==========
@@ -272,6 +280,17 @@ export class ApiService {
     // localStorage.setItem('token', token);
   }
 
+  // ========== SINCRONIZAÇÃO ==========
+
+  // Sem token devolve tudo; com token, só o que mudou (repita enquanto "mais" for true)
+  getMudancas(desde?: number): Observable<Mudancas> {
+    let params = new HttpParams();
+    if (desde !== undefined) {
+      params = params.set('desde', desde.toString());
+    }
+    return this.http.get<Mudancas>(`${this.baseUrl}/sincronizacao`, { params });
+  }
+
   // Método para obter usuário do localStorage
   getCurrentUser(): Usuario | null {
     const usuarioStr = localStorage.getItem('usuario');